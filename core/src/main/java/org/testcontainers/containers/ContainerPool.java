@@ -0,0 +1,159 @@
+package org.testcontainers.containers;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.UnstableAPI;
+import org.testcontainers.lifecycle.Startables;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Keeps a number of pre-started instances of an identical container definition ready for use.
+ * <p>
+ * Pools are keyed by the same create command hash that {@link GenericContainer#withReuse(boolean) reuse} computes,
+ * so effectively-identical definitions share a pool. Every {@link #acquire()} hands out a running container
+ * and starts a replacement in the background, using the same executor as {@link Startables}.
+ * <p>
+ * Acquired containers belong to the caller and should be stopped as usual once they are no longer needed.
+ *
+ * <pre>
+ * ContainerPool&lt;GenericContainer&lt;?&gt;&gt; pool = ContainerPool.of(
+ *     () -&gt; new GenericContainer&lt;&gt;("redis:6-alpine").withExposedPorts(6379),
+ *     2
+ * );
+ *
+ * try (GenericContainer&lt;?&gt; redis = pool.acquire()) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * @param <T> the type of the pooled containers
+ */
+@UnstableAPI
+@Slf4j
+public final class ContainerPool<T extends GenericContainer<?>> implements AutoCloseable {
+
+    private static final Map<String, ContainerPool<?>> POOLS = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the pool for the container definition produced by {@code containerFactory}, creating it if necessary.
+     * <p>
+     * The factory must return a new, not yet started container on every invocation.
+     * One extra instance is created (but never started) to compute the definition hash.
+     * Every caller must request the same size for the same container definition.
+     *
+     * @param containerFactory the factory of the pooled containers
+     * @param size the number of pre-started standby containers to keep
+     * @return the pool for the given container definition
+     * @throws IllegalArgumentException if a pool of another size exists for the container definition
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends GenericContainer<?>> ContainerPool<T> of(@NonNull Supplier<T> containerFactory, int size) {
+        Preconditions.checkArgument(size > 0, "size must be greater than zero");
+
+        String hash = containerFactory.get().definitionHash();
+        ContainerPool<T> pool = (ContainerPool<T>) POOLS.computeIfAbsent(
+            hash,
+            it -> new ContainerPool<>(it, containerFactory, size)
+        );
+        Preconditions.checkArgument(
+            pool.size == size,
+            "A pool with %s standby containers already exists for this container definition, requested: %s",
+            pool.size,
+            size
+        );
+        return pool;
+    }
+
+    @Getter
+    private final String hash;
+
+    @Getter
+    private final int size;
+
+    private final Supplier<T> containerFactory;
+
+    private final List<CompletableFuture<T>> standby = new ArrayList<>();
+
+    private boolean closed = false;
+
+    private ContainerPool(String hash, Supplier<T> containerFactory, int size) {
+        this.hash = hash;
+        this.containerFactory = containerFactory;
+        this.size = size;
+
+        log.debug("Creating container pool with {} standby containers for hash: {}", size, hash);
+        for (int i = 0; i < size; i++) {
+            standby.add(startInBackground());
+        }
+    }
+
+    /**
+     * Takes a running container out of the pool, waiting for one to finish starting if necessary.
+     * A replacement is started in the background.
+     *
+     * @return a started container that is owned by the caller
+     */
+    @SneakyThrows(InterruptedException.class)
+    public T acquire() {
+        // A standby container may have died while waiting, give every slot of the pool a chance before giving up
+        for (int attempt = 0; attempt <= size; attempt++) {
+            CompletableFuture<T> next;
+            synchronized (this) {
+                Preconditions.checkState(!closed, "Container pool is closed");
+                next = standby.remove(0);
+                standby.add(startInBackground());
+            }
+
+            T container;
+            try {
+                container = next.get();
+            } catch (ExecutionException e) {
+                throw new ContainerLaunchException("Pooled container failed to start", e.getCause());
+            }
+
+            if (container.isRunning()) {
+                return container;
+            }
+
+            log.warn("Discarding pooled container {} as it is no longer running", container.getContainerId());
+            container.stop();
+        }
+
+        throw new ContainerLaunchException("Could not acquire a running container from the pool");
+    }
+
+    /**
+     * Stops all standby containers and removes the pool.
+     * Containers that were already acquired are left untouched.
+     */
+    @Override
+    public void close() {
+        List<CompletableFuture<T>> remaining;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            remaining = new ArrayList<>(standby);
+            standby.clear();
+        }
+
+        POOLS.remove(hash, this);
+        remaining.forEach(it -> it.thenAccept(GenericContainer::stop));
+    }
+
+    private CompletableFuture<T> startInBackground() {
+        T container = containerFactory.get();
+        return Startables.deepStart(container).thenApply(__ -> container);
+    }
+}
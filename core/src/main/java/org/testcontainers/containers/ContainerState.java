@@ -16,10 +16,12 @@ import org.apache.commons.lang3.math.NumberUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.DockerClientFactory;
+import org.testcontainers.UnstableAPI;
 import org.testcontainers.containers.output.OutputFrame;
 import org.testcontainers.images.builder.Transferable;
 import org.testcontainers.utility.LogUtils;
 import org.testcontainers.utility.MountableFile;
+import org.testcontainers.utility.TestcontainersThreadFactory;
 import org.testcontainers.utility.ThrowingFunction;
 
 import java.io.File;
@@ -31,6 +33,7 @@ import java.io.PipedOutputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -311,6 +314,17 @@ public interface ContainerState {
         return ExecInContainerPattern.execInContainer(getDockerClient(), getContainerInfo(), outputCharset, execConfig);
     }
 
+    /**
+     * Open a shell inside a running container that runs many commands one after another, and interprets the output
+     * as UTF8. This is much cheaper than calling {@link #execInContainer(String...)} for each command.
+     * <p>
+     * @see ExecInContainerPattern#openExecSession(DockerClient, InspectContainerResponse, Charset)
+     */
+    @UnstableAPI
+    default ExecSession openExecSession() throws UnsupportedOperationException {
+        return ExecInContainerPattern.openExecSession(getDockerClient(), getContainerInfo(), StandardCharsets.UTF_8);
+    }
+
     /**
      *
      * Copies a file or directory to the container.
@@ -339,10 +353,20 @@ public interface ContainerState {
      * @param transferable file which is copied into the container
      * @param containerPath destination path inside the container
      */
-    @SneakyThrows({ IOException.class, InterruptedException.class })
     default void copyFileToContainer(Transferable transferable, String containerPath) {
+        copyFilesToContainer(Collections.singletonMap(containerPath, transferable));
+    }
+
+    /**
+     *
+     * Copies several files to the container as a single archive, with one Docker API call.
+     *
+     * @param files files keyed by their destination path inside the container, archived in iteration order
+     */
+    @SneakyThrows({ IOException.class, InterruptedException.class })
+    default void copyFilesToContainer(Map<String, Transferable> files) {
         if (getContainerId() == null) {
-            throw new IllegalStateException("copyFileToContainer can only be used with created / running container");
+            throw new IllegalStateException("copyFilesToContainer can only be used with created / running container");
         }
 
         try (
@@ -350,12 +374,12 @@ public interface ContainerState {
             PipedInputStream pipedInputStream = new PipedInputStream(pipedOutputStream);
             TarArchiveOutputStream tarArchive = new TarArchiveOutputStream(pipedOutputStream)
         ) {
-            Thread thread = new Thread(() -> {
+            Thread thread = TestcontainersThreadFactory.of("testcontainers-copy-").newThread(() -> {
                 try {
                     tarArchive.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
                     tarArchive.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
 
-                    transferable.transferTo(tarArchive, containerPath);
+                    files.forEach((containerPath, transferable) -> transferable.transferTo(tarArchive, containerPath));
                 } finally {
                     IOUtils.closeQuietly(tarArchive);
                 }
@@ -8,6 +8,7 @@ import com.github.dockerjava.api.exception.DockerException;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import org.testcontainers.DockerClientFactory;
+import org.testcontainers.UnstableAPI;
 import org.testcontainers.containers.output.FrameConsumerResultCallback;
 import org.testcontainers.containers.output.OutputFrame;
 import org.testcontainers.containers.output.ToStringConsumer;
@@ -199,13 +200,76 @@ public class ExecInContainerPattern {
         String containerId = containerInfo.getId();
         String containerName = containerInfo.getName();
 
-        String[] command = execConfig.getCommand();
-        log.debug("{}: Running \"exec\" command: {}", containerName, String.join(" ", command));
+        log.debug("{}: Running \"exec\" command: {}", containerName, String.join(" ", execConfig.getCommand()));
+        final ExecCreateCmd execCreateCmd = createExecCmd(dockerClient, containerId, containerName, execConfig);
+        final ExecCreateCmdResponse execCreateCmdResponse = execCreateCmd.exec();
+
+        final ToStringConsumer stdoutConsumer = new ToStringConsumer();
+        final ToStringConsumer stderrConsumer = new ToStringConsumer();
+
+        try (FrameConsumerResultCallback callback = new FrameConsumerResultCallback()) {
+            callback.addConsumer(OutputFrame.OutputType.STDOUT, stdoutConsumer);
+            callback.addConsumer(OutputFrame.OutputType.STDERR, stderrConsumer);
+
+            dockerClient.execStartCmd(execCreateCmdResponse.getId()).exec(callback).awaitCompletion();
+        }
+        int exitCode = dockerClient.inspectExecCmd(execCreateCmdResponse.getId()).exec().getExitCodeLong().intValue();
+
+        final Container.ExecResult result = new Container.ExecResult(
+            exitCode,
+            stdoutConsumer.toString(outputCharset),
+            stderrConsumer.toString(outputCharset)
+        );
+
+        log.trace("{}: stdout: {}", containerName, result.getStdout());
+        log.trace("{}: stderr: {}", containerName, result.getStderr());
+        return result;
+    }
+
+    /**
+     * Open a shell inside a running container that runs many commands one after another, without the cost of a
+     * separate "docker exec" per command.
+     * <p>
+     * @param dockerClient the {@link DockerClient}
+     * @param containerInfo the container info
+     * @param outputCharset the character set used to interpret the output.
+     * @return the session, which must be closed after use
+     * @throws UnsupportedOperationException if the docker daemon you're connecting to doesn't support "exec".
+     * @see ExecSession
+     */
+    @UnstableAPI
+    public ExecSession openExecSession(
+        DockerClient dockerClient,
+        InspectContainerResponse containerInfo,
+        Charset outputCharset
+    ) throws UnsupportedOperationException {
+        if (!TestEnvironment.dockerExecutionDriverSupportsExec()) {
+            throw new UnsupportedOperationException(
+                "Your docker daemon is running the \"lxc\" driver, which doesn't support \"docker exec\"."
+            );
+        }
+
+        if (!isRunning(containerInfo)) {
+            throw new IllegalStateException("openExecSession can only be used while the Container is running");
+        }
+
+        return new ExecSession(dockerClient, containerInfo.getId(), containerInfo.getName(), outputCharset);
+    }
+
+    /**
+     * Creates an exec command that runs with the given configuration and attaches stdout and stderr.
+     */
+    ExecCreateCmd createExecCmd(
+        DockerClient dockerClient,
+        String containerId,
+        String containerName,
+        ExecConfig execConfig
+    ) {
         final ExecCreateCmd execCreateCmd = dockerClient
             .execCreateCmd(containerId)
             .withAttachStdout(true)
             .withAttachStderr(true)
-            .withCmd(command);
+            .withCmd(execConfig.getCommand());
 
         String user = execConfig.getUser();
         if (user != null && !user.isEmpty()) {
@@ -229,28 +293,7 @@ public class ExecInContainerPattern {
             execCreateCmd.withEnv(envVarList);
         }
 
-        final ExecCreateCmdResponse execCreateCmdResponse = execCreateCmd.exec();
-
-        final ToStringConsumer stdoutConsumer = new ToStringConsumer();
-        final ToStringConsumer stderrConsumer = new ToStringConsumer();
-
-        try (FrameConsumerResultCallback callback = new FrameConsumerResultCallback()) {
-            callback.addConsumer(OutputFrame.OutputType.STDOUT, stdoutConsumer);
-            callback.addConsumer(OutputFrame.OutputType.STDERR, stderrConsumer);
-
-            dockerClient.execStartCmd(execCreateCmdResponse.getId()).exec(callback).awaitCompletion();
-        }
-        int exitCode = dockerClient.inspectExecCmd(execCreateCmdResponse.getId()).exec().getExitCodeLong().intValue();
-
-        final Container.ExecResult result = new Container.ExecResult(
-            exitCode,
-            stdoutConsumer.toString(outputCharset),
-            stderrConsumer.toString(outputCharset)
-        );
-
-        log.trace("{}: stdout: {}", containerName, result.getStdout());
-        log.trace("{}: stderr: {}", containerName, result.getStderr());
-        return result;
+        return execCreateCmd;
     }
 
     private boolean isRunning(InspectContainerResponse containerInfo) {
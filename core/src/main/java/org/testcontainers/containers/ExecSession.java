@@ -0,0 +1,90 @@
+package org.testcontainers.containers;
+
+import com.github.dockerjava.api.DockerClient;
+import com.google.common.base.Preconditions;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.UnstableAPI;
+import org.testcontainers.containers.output.OutputFrame;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * A shell that stays attached to a running container and runs commands one after another.
+ * <p>
+ * Every {@link ContainerState#execInContainer(String...)} creates, starts and inspects a new exec instance.
+ * A session starts a single {@code sh} exec instead, writes the commands to its stdin and reads the exit code of
+ * each command from a marker line that is printed after it. This makes it much cheaper to run many commands, e.g.
+ * while setting up a container.
+ * <p>
+ * The container must provide {@code sh}. Commands run with stdin redirected from {@code /dev/null}.
+ * A session runs one command at a time and must be closed after use.
+ */
+@UnstableAPI
+@Slf4j
+public class ExecSession implements AutoCloseable {
+
+    private final String marker = "__testcontainers_exec_" + UUID.randomUUID().toString().replace("-", "") + "__";
+
+    private final String containerName;
+
+    private final InteractiveExec shell;
+
+    ExecSession(DockerClient dockerClient, String containerId, String containerName, Charset outputCharset) {
+        this.containerName = containerName;
+        this.shell =
+            new InteractiveExec(
+                dockerClient,
+                containerId,
+                containerName,
+                outputCharset,
+                ExecConfig.builder().command(new String[] { "sh" }).build()
+            );
+    }
+
+    /**
+     * Runs a command in the session, as though using "docker exec".
+     *
+     * @param command the parts of the command to run
+     * @return the result of execution
+     * @throws IOException if the session has ended
+     * @throws InterruptedException if the thread waiting for the result is interrupted
+     */
+    public synchronized Container.ExecResult exec(String... command) throws IOException, InterruptedException {
+        Preconditions.checkArgument(command.length > 0, "command must not be empty");
+        log.debug("{}: Running \"exec\" session command: {}", containerName, String.join(" ", command));
+
+        shell.write(
+            Arrays.stream(command).map(ExecSession::quote).collect(Collectors.joining(" ")) +
+            " </dev/null; printf '\\n%s %d\\n' " +
+            marker +
+            " $?; printf '\\n%s\\n' " +
+            marker +
+            " >&2\n"
+        );
+
+        String stdout = shell.readUntil(OutputFrame.OutputType.STDOUT, "\n" + marker + " ");
+        int exitCode = Integer.parseInt(shell.readUntil(OutputFrame.OutputType.STDOUT, "\n"));
+        String stderr = shell.readUntil(OutputFrame.OutputType.STDERR, "\n" + marker + "\n");
+        Container.ExecResult result = new Container.ExecResult(exitCode, stdout, stderr);
+
+        log.trace("{}: stdout: {}", containerName, result.getStdout());
+        log.trace("{}: stderr: {}", containerName, result.getStderr());
+        return result;
+    }
+
+    /**
+     * Ends the shell of the session.
+     */
+    @Override
+    public void close() {
+        shell.close();
+    }
+
+    private static String quote(String argument) {
+        return "'" + argument.replace("'", "'\\''") + "'";
+    }
+}
@@ -52,6 +52,7 @@ import org.testcontainers.images.RemoteDockerImage;
 import org.testcontainers.images.builder.Transferable;
 import org.testcontainers.lifecycle.Startable;
 import org.testcontainers.lifecycle.Startables;
+import org.testcontainers.lifecycle.StartupPhase;
 import org.testcontainers.lifecycle.TestDescription;
 import org.testcontainers.lifecycle.TestLifecycleAware;
 import org.testcontainers.utility.Base58;
@@ -66,6 +67,7 @@ import org.testcontainers.utility.ResourceReaper;
 import org.testcontainers.utility.TestcontainersConfiguration;
 
 import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.UndeclaredThrowableException;
@@ -117,6 +119,12 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
 
     static final String COPIED_FILES_HASH_LABEL = "org.testcontainers.copied_files.hash";
 
+    static final String SNAPSHOT_LABEL = "org.testcontainers.snapshot";
+
+    private static final String SNAPSHOT_CHECKSUM_LABEL = "org.testcontainers.snapshot.checksum";
+
+    static final String SNAPSHOT_REPOSITORY = "testcontainers/snapshot";
+
     /*
      * Default settings
      */
@@ -197,8 +205,30 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
     @Setter(AccessLevel.NONE)
     private boolean shouldBeReused = false;
 
+    @Setter(AccessLevel.NONE)
+    private boolean shouldBeLeased = false;
+
+    /**
+     * The lease on the reused container held by this JVM, when started with {@link #withLeasedReuse(boolean)}
+     */
+    @Nullable
+    @Setter(AccessLevel.NONE)
+    private ReuseLease reuseLease;
+
     private boolean hostAccessible = false;
 
+    @Nullable
+    @Setter(AccessLevel.NONE)
+    private String snapshotName;
+
+    @Nullable
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String snapshotToRestore;
+
+    @Setter(AccessLevel.NONE)
+    private boolean restoredFromSnapshot = false;
+
     private final Set<CreateContainerCmdModifier> createContainerCmdModifiers = loadCreateContainerCmdCustomizers();
 
     private ContainerDef containerDef;
@@ -371,18 +401,27 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
     }
 
     private void tryStart() {
+        ReuseLease.CreationLock creationLock = null;
+        // a leased container may be used by other JVMs, so a failure in this JVM must not remove it
+        boolean sharedContainer = false;
         try {
             String dockerImageName = getDockerImageName();
             logger().debug("Starting container: {}", dockerImageName);
 
             Instant startedAt = Instant.now();
-            logger().info("Creating container for image: {}", dockerImageName);
-            CreateContainerCmd createCommand = dockerClient.createContainerCmd(dockerImageName);
+            Optional<String> snapshotImage = Optional
+                .ofNullable(snapshotToRestore != null ? snapshotToRestore : snapshotName)
+                .flatMap(this::findSnapshot);
+            restoredFromSnapshot = snapshotImage.isPresent();
+
+            logger().info("Creating container for image: {}", snapshotImage.orElse(dockerImageName));
+            CreateContainerCmd createCommand = dockerClient.createContainerCmd(snapshotImage.orElse(dockerImageName));
             applyConfiguration(createCommand);
 
             createCommand.getLabels().putAll(DockerClientFactory.DEFAULT_LABELS);
 
             boolean reused = false;
+            String reuseHash = null;
             final boolean reusable;
             if (shouldBeReused) {
                 if (!canBeReused()) {
@@ -395,12 +434,19 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
                         .put(COPIED_FILES_HASH_LABEL, Long.toHexString(hashCopiedFiles().getValue()));
 
                     String hash = hash(createCommand);
+                    reuseHash = hash;
+
+                    if (shouldBeLeased) {
+                        // held until this JVM has taken its lease, so that parallel JVMs find the same container
+                        creationLock = ReuseLease.lockCreation(hash);
+                    }
 
                     containerId = findContainerForReuse(hash).orElse(null);
 
                     if (containerId != null) {
                         logger().info("Reusing container with ID: {} and hash: {}", containerId, hash);
                         reused = true;
+                        sharedContainer = shouldBeLeased;
                     } else {
                         logger().debug("Can't find a reusable running container with hash: {}", hash);
 
@@ -427,12 +473,9 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
             }
 
             if (!reused) {
-                containerId = createCommand.exec().getId();
+                containerId = StartupPhase.CREATE.call(createCommand::exec).getId();
 
-                // TODO use single "copy" invocation (and calculate an hash of the resulting tar archive)
-                copyToFileContainerPathMap.forEach(this::copyFileToContainer);
-
-                copyToTransferableContainerPathMap.forEach(this::copyFileToContainer);
+                copyRegisteredFilesToContainer();
             }
 
             connectToPortForwardingNetwork(createCommand.getNetworkMode());
@@ -441,7 +484,7 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
                 containerIsCreated(containerId);
 
                 logger().info("Container {} is starting: {}", dockerImageName, containerId);
-                dockerClient.startContainerCmd(containerId).exec();
+                StartupPhase.CREATE.run(dockerClient.startContainerCmd(containerId)::exec);
             } else {
                 logger().info("Reusing existing container ({}) and not creating a new one", containerId);
             }
@@ -489,7 +532,7 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
 
             // Wait until the process within the container has become ready for use (e.g. listening on network, log message emitted, etc).
             try {
-                waitUntilContainerStarted();
+                StartupPhase.WAIT.run(this::waitUntilContainerStarted);
             } catch (Exception e) {
                 logger().debug("Wait strategy threw an exception", e);
                 InspectContainerResponse inspectContainerResponse = null;
@@ -531,7 +574,30 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
             }
 
             logger().info("Container {} started in {}", dockerImageName, Duration.between(startedAt, Instant.now()));
+
+            if (shouldBeLeased && reuseHash != null) {
+                sharedContainer = true;
+                ReuseLease lease = ReuseLease.acquire(reuseHash);
+                try {
+                    reuseLeaseAcquired(lease);
+                } catch (Exception e) {
+                    lease.close();
+                    throw e;
+                }
+                reuseLease = lease;
+                logger().info("Acquired lease {} on container {}", lease.getNamespace(), containerId);
+            }
+
+            if (creationLock != null) {
+                creationLock.close();
+                creationLock = null;
+            }
+
             containerIsStarted(containerInfo, reused);
+
+            if (snapshotName != null && !restoredFromSnapshot && !reused) {
+                snapshot(snapshotName);
+            }
         } catch (Exception e) {
             if (e instanceof UndeclaredThrowableException && e.getCause() instanceof Exception) {
                 e = (Exception) e.getCause();
@@ -550,13 +616,72 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
                 } else {
                     logger().error("There are no stdout/stderr logs available for the failed container");
                 }
-                stop();
+                if (sharedContainer && reuseLease == null) {
+                    logger().info("Leaving shared container {} running for other JVMs", containerId);
+                    containerId = null;
+                    containerInfo = null;
+                } else {
+                    stop();
+                }
             }
 
             throw new ContainerLaunchException("Could not create/start container", e);
+        } finally {
+            if (creationLock != null) {
+                try {
+                    creationLock.close();
+                } catch (IOException e) {
+                    logger().warn("Could not release the lock on reused container creation", e);
+                }
+            }
         }
     }
 
+    /**
+     * Copies all files registered with {@link #withCopyFileToContainer(MountableFile, String)} and
+     * {@link #withCopyToContainer(Transferable, String)} as a single archive, unless a subclass overrides
+     * {@code copyFileToContainer}, which then copies the files one by one.
+     */
+    private void copyRegisteredFilesToContainer() {
+        if (overridesCopyFileToContainer()) {
+            copyToFileContainerPathMap.forEach(this::copyFileToContainer);
+            copyToTransferableContainerPathMap.forEach(this::copyFileToContainer);
+            return;
+        }
+
+        // Maintain order in which entries are added, as earlier target location may be a prefix of a later location.
+        Map<String, Transferable> files = new LinkedHashMap<>();
+        copyToFileContainerPathMap.forEach((mountableFile, containerPath) -> {
+            File sourceFile = new File(mountableFile.getResolvedPath());
+            if (containerPath.endsWith("/") && sourceFile.isFile()) {
+                logger()
+                    .warn(
+                        "folder-like containerPath in copyFileToContainer is deprecated, please explicitly specify a file path"
+                    );
+                files.put(containerPath + sourceFile.getName(), mountableFile);
+            } else {
+                files.put(containerPath, mountableFile);
+            }
+        });
+        copyToTransferableContainerPathMap.forEach((transferable, containerPath) -> {
+            files.put(containerPath, transferable);
+        });
+
+        if (!files.isEmpty()) {
+            copyFilesToContainer(files);
+        }
+    }
+
+    @SneakyThrows(NoSuchMethodException.class)
+    private boolean overridesCopyFileToContainer() {
+        return (
+            getClass().getMethod("copyFileToContainer", MountableFile.class, String.class).getDeclaringClass() !=
+            ContainerState.class ||
+            getClass().getMethod("copyFileToContainer", Transferable.class, String.class).getDeclaringClass() !=
+            ContainerState.class
+        );
+    }
+
     @VisibleForTesting
     Checksum hashCopiedFiles() {
         Checksum checksum = new Adler32();
@@ -590,6 +715,23 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
         return Hashing.sha1().hashBytes(commandJson).toString();
     }
 
+    /**
+     * Computes the hash of the create command this container would be started with, the same way
+     * {@link #withReuse(boolean) reuse} does, without creating anything.
+     * Effectively-identical container definitions produce the same hash.
+     */
+    @UnstableAPI
+    String definitionHash() {
+        configure();
+
+        CreateContainerCmd createCommand = dockerClient.createContainerCmd(getDockerImageName());
+        applyConfiguration(createCommand);
+        createCommand.getLabels().putAll(DockerClientFactory.DEFAULT_LABELS);
+        createCommand.getLabels().put(COPIED_FILES_HASH_LABEL, Long.toHexString(hashCopiedFiles().getValue()));
+
+        return hash(createCommand);
+    }
+
     @VisibleForTesting
     Optional<String> findContainerForReuse(String hash) {
         // TODO locking
@@ -644,6 +786,16 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
             return;
         }
 
+        if (reuseLease != null) {
+            // the container is shared with other JVMs, only give up our part of it
+            logger().info("Releasing lease {} on container {}", reuseLease.getNamespace(), containerId);
+            reuseLease.close();
+            reuseLease = null;
+            containerId = null;
+            containerInfo = null;
+            return;
+        }
+
         try {
             String imageName;
 
@@ -715,6 +867,27 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
     @SuppressWarnings({ "EmptyMethod", "UnusedParameters" })
     protected void containerIsStarted(InspectContainerResponse containerInfo) {}
 
+    /**
+     * A hook that is executed when this JVM took a lease on a container started with
+     * {@link #withLeasedReuse(boolean)}, after the wait strategy and before {@link #containerIsStarted}.
+     * Implementations should (re)create the isolated namespace of the lease, e.g. a database or virtual host,
+     * so that it starts empty. {@link #getReuseLease()} returns the lease only after this hook completed.
+     *
+     * @param lease the lease taken by this JVM
+     */
+    @SuppressWarnings({ "EmptyMethod", "UnusedParameters" })
+    @UnstableAPI
+    protected void reuseLeaseAcquired(ReuseLease lease) throws Exception {}
+
+    /**
+     * @return whether this container can isolate the JVMs sharing it, see {@link #withLeasedReuse(boolean)}.
+     * Containers that use the namespace of their {@link ReuseLease} to isolate each JVM override this.
+     */
+    @UnstableAPI
+    protected boolean canBeLeased() {
+        return false;
+    }
+
     @SuppressWarnings({ "EmptyMethod", "UnusedParameters" })
     @UnstableAPI
     protected void containerIsStarted(InspectContainerResponse containerInfo, boolean reused) {
@@ -1476,12 +1649,148 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
         return self();
     }
 
+    /**
+     * Adds a tmpfs mount to the container, unless a tmpfs is already configured for the path.
+     *
+     * @param path the path of the tmpfs inside the container
+     * @param options mount options, e.g. {@code rw}
+     */
+    protected void addTmpFs(String path, String options) {
+        Map<String, String> mapping = tmpFsMapping != null ? new HashMap<>(tmpFsMapping) : new HashMap<>();
+        mapping.putIfAbsent(path, options);
+        this.tmpFsMapping = mapping;
+    }
+
     @UnstableAPI
     public SELF withReuse(boolean reusable) {
         this.shouldBeReused = reusable;
         return self();
     }
 
+    /**
+     * Like {@link #withReuse(boolean)}, but coordinates with other JVMs on the same host (e.g. parallel test forks),
+     * so that they all share one container. Each JVM holds a {@link ReuseLease} with its own namespace, which
+     * containers that support it (e.g. {@code PostgreSQLContainer}, {@code RabbitMQContainer}) use to isolate the data
+     * of each JVM. {@link #stop()} releases the lease instead of stopping the shared container.
+     *
+     * @param leased whether to share the container between JVMs through leases
+     * @return this
+     */
+    @UnstableAPI
+    public SELF withLeasedReuse(boolean leased) {
+        if (leased && !canBeLeased()) {
+            throw new IllegalStateException("This container does not support leased reuse");
+        }
+        this.shouldBeReused = leased;
+        this.shouldBeLeased = leased;
+        return self();
+    }
+
+    /**
+     * Starts this container from the snapshot with the given name if it exists locally, otherwise starts it as usual
+     * and takes the snapshot once the container has started.
+     * <p>
+     * Snapshots are kept between JVMs, so only the first run pays for the full startup.
+     *
+     * @param name the name of the snapshot
+     * @return this
+     * @see #snapshot(String)
+     */
+    @UnstableAPI
+    public SELF withSnapshot(@NonNull String name) {
+        this.snapshotName = name;
+        return self();
+    }
+
+    /**
+     * Commits the filesystem of the running container as a snapshot image.
+     * <p>
+     * The snapshot is keyed by the same hash of the container definition as {@link #withReuse(boolean) reuse},
+     * including the copied files, and by {@link #updateSnapshotChecksum(Checksum)}, so that it is only restored
+     * for an equivalent container definition.
+     * Note that data stored in volumes declared by the image is not part of the snapshot.
+     *
+     * @param name the name of the snapshot
+     * @return the name of the snapshot image
+     * @see #restore(String)
+     */
+    @UnstableAPI
+    public String snapshot(@NonNull String name) {
+        if (containerId == null) {
+            throw new IllegalStateException("snapshot can only be taken of a started container");
+        }
+
+        String tag = snapshotTag(name);
+        logger().info("Committing container {} as snapshot {}:{}", containerId, SNAPSHOT_REPOSITORY, tag);
+
+        Map<String, String> labels = new HashMap<>(DockerClientFactory.DEFAULT_LABELS);
+        labels.put(SNAPSHOT_LABEL, name);
+        // Overrides the label inherited from the container, so that the resource reaper keeps the snapshot
+        labels.put(DockerClientFactory.TESTCONTAINERS_SESSION_ID_LABEL, "");
+
+        dockerClient.commitCmd(containerId).withRepository(SNAPSHOT_REPOSITORY).withTag(tag).withLabels(labels).exec();
+        return SNAPSHOT_REPOSITORY + ":" + tag;
+    }
+
+    /**
+     * Replaces the container with a new one started from the snapshot with the given name.
+     *
+     * @param name the name of the snapshot
+     * @see #snapshot(String)
+     */
+    @UnstableAPI
+    public void restore(@NonNull String name) {
+        if (!findSnapshot(name).isPresent()) {
+            throw new IllegalStateException("Snapshot " + name + " does not exist");
+        }
+
+        stop();
+        snapshotToRestore = name;
+        try {
+            start();
+        } finally {
+            snapshotToRestore = null;
+        }
+    }
+
+    /**
+     * Contributes state that is not part of the container definition to the key of the snapshots of this container,
+     * e.g. the content of scripts that are run after startup.
+     *
+     * @param checksum the checksum to update
+     */
+    @UnstableAPI
+    protected void updateSnapshotChecksum(Checksum checksum) {}
+
+    private Optional<String> findSnapshot(String name) {
+        String snapshotImage = SNAPSHOT_REPOSITORY + ":" + snapshotTag(name);
+        try {
+            dockerClient.inspectImageCmd(snapshotImage).exec();
+            return Optional.of(snapshotImage);
+        } catch (NotFoundException e) {
+            return Optional.empty();
+        }
+    }
+
+    private String snapshotTag(String name) {
+        CreateContainerCmd createCommand = dockerClient.createContainerCmd(getDockerImageName());
+        applyConfiguration(createCommand);
+        createCommand.getLabels().putAll(DockerClientFactory.DEFAULT_LABELS);
+        createCommand.getLabels().put(COPIED_FILES_HASH_LABEL, Long.toHexString(hashCopiedFiles().getValue()));
+
+        Checksum checksum = new Adler32();
+        updateSnapshotChecksum(checksum);
+        createCommand.getLabels().put(SNAPSHOT_CHECKSUM_LABEL, Long.toHexString(checksum.getValue()));
+
+        if (getNetwork() != null) {
+            // a network, and the random alias on it, are new in every run, while the filesystem does not depend on them
+            createCommand.getHostConfig().withNetworkMode(null);
+            createCommand.withAliases(new String[0]);
+        }
+
+        return name + "-" + hash(createCommand);
+    }
+
     /**
      * Forces access to the tests host machine.
      * Use this method if you need to call {@link org.testcontainers.Testcontainers#exposeHostPorts(int...)}
@@ -0,0 +1,236 @@
+package org.testcontainers.containers;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.ExecCreateCmdResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.UnstableAPI;
+import org.testcontainers.containers.output.FrameConsumerResultCallback;
+import org.testcontainers.containers.output.OutputFrame;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A process that stays attached to a running container, as though using "docker exec -i".
+ * <p>
+ * Input is written to the stdin of the process while it runs, and its output is read up to a delimiter, e.g. a
+ * marker that the process prints once it is done with the input. This is the base of sessions that run many
+ * commands or statements with a single process, like {@link ExecSession}.
+ * <p>
+ * The output is read by a single thread at a time. The process must be closed after use.
+ */
+@UnstableAPI
+@Slf4j
+public class InteractiveExec implements AutoCloseable {
+
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    private final String containerName;
+
+    private final Charset outputCharset;
+
+    private final StdinStream stdin = new StdinStream();
+
+    private final FrameConsumerResultCallback callback = new FrameConsumerResultCallback();
+
+    // the output is decoded as ISO-8859-1, which keeps the bytes, until it is read
+    private final StringBuilder stdout = new StringBuilder();
+
+    private final StringBuilder stderr = new StringBuilder();
+
+    private boolean ended;
+
+    /**
+     * Starts a process inside a running container.
+     *
+     * @param dockerClient the {@link DockerClient}
+     * @param containerId the id of the container
+     * @param containerName the name of the container, used for logging
+     * @param outputCharset the character set used to interpret the output
+     * @param execConfig the exec configuration
+     */
+    public InteractiveExec(
+        DockerClient dockerClient,
+        String containerId,
+        String containerName,
+        Charset outputCharset,
+        ExecConfig execConfig
+    ) {
+        this.containerName = containerName;
+        this.outputCharset = outputCharset;
+
+        ExecCreateCmdResponse execCreateCmdResponse = ExecInContainerPattern
+            .createExecCmd(dockerClient, containerId, containerName, execConfig)
+            .withAttachStdin(true)
+            .exec();
+
+        callback.addConsumer(OutputFrame.OutputType.STDOUT, frame -> received(stdout, frame));
+        callback.addConsumer(OutputFrame.OutputType.STDERR, frame -> received(stderr, frame));
+        dockerClient.execStartCmd(execCreateCmdResponse.getId()).withStdIn(stdin).exec(callback);
+    }
+
+    /**
+     * Writes to the stdin of the process, encoded as UTF8.
+     *
+     * @param input the input
+     */
+    public void write(String input) {
+        stdin.write(input.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads the output of the process up to a delimiter, waiting for it as long as necessary.
+     *
+     * @param type the output to read, {@link OutputFrame.OutputType#STDOUT} or {@link OutputFrame.OutputType#STDERR}
+     * @param delimiter the text that ends what is read
+     * @return the output before the delimiter; the delimiter is skipped
+     * @throws IOException if the process has ended before printing the delimiter
+     * @throws InterruptedException if the thread waiting for the output is interrupted
+     */
+    public String readUntil(OutputFrame.OutputType type, String delimiter) throws IOException, InterruptedException {
+        return read(type, delimiter, Long.MAX_VALUE);
+    }
+
+    /**
+     * Reads the output of the process up to a delimiter.
+     *
+     * @param type the output to read, {@link OutputFrame.OutputType#STDOUT} or {@link OutputFrame.OutputType#STDERR}
+     * @param delimiter the text that ends what is read
+     * @param timeout how long to wait for the delimiter
+     * @return the output before the delimiter; the delimiter is skipped
+     * @throws IOException if the process has ended before printing the delimiter
+     * @throws InterruptedException if the thread waiting for the output is interrupted
+     * @throws TimeoutException if the process has not printed the delimiter in time
+     */
+    public String readUntil(OutputFrame.OutputType type, String delimiter, Duration timeout)
+        throws IOException, InterruptedException, TimeoutException {
+        String output = read(type, delimiter, System.nanoTime() + timeout.toNanos());
+        if (output == null) {
+            throw new TimeoutException(
+                String.format("%s: The exec process did not print %s within %s", containerName, delimiter, timeout)
+            );
+        }
+        return output;
+    }
+
+    /**
+     * Ends the process by closing its stdin.
+     */
+    @Override
+    public void close() {
+        stdin.close();
+        try {
+            if (!callback.getCompletionLatch().await(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.debug("{}: The exec process did not end in time", containerName);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            try {
+                callback.close();
+            } catch (IOException e) {
+                log.debug("{}: Could not close the exec process", containerName, e);
+            }
+        }
+    }
+
+    /**
+     * @return the output before the delimiter, or {@code null} if the deadline has passed
+     */
+    private synchronized String read(OutputFrame.OutputType type, String delimiter, long deadline)
+        throws IOException, InterruptedException {
+        StringBuilder output = type == OutputFrame.OutputType.STDERR ? stderr : stdout;
+        String encodedDelimiter = new String(delimiter.getBytes(outputCharset), StandardCharsets.ISO_8859_1);
+
+        int index;
+        while ((index = output.indexOf(encodedDelimiter)) < 0) {
+            if (ended) {
+                throw new IOException(containerName + ": The exec process has ended");
+            }
+            if (deadline == Long.MAX_VALUE) {
+                wait();
+            } else {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return null;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+        }
+
+        String read = new String(output.substring(0, index).getBytes(StandardCharsets.ISO_8859_1), outputCharset);
+        output.delete(0, index + encodedDelimiter.length());
+        return read;
+    }
+
+    private synchronized void received(StringBuilder output, OutputFrame frame) {
+        if (frame.getType() == OutputFrame.OutputType.END) {
+            ended = true;
+        } else {
+            output.append(new String(frame.getBytes(), StandardCharsets.ISO_8859_1));
+        }
+        notifyAll();
+    }
+
+    /**
+     * The stdin of the process, fed by {@link #write(String)}.
+     */
+    private static class StdinStream extends InputStream {
+
+        private static final byte[] EOF = new byte[0];
+
+        private final BlockingQueue<byte[]> chunks = new LinkedBlockingQueue<>();
+
+        private byte[] current;
+
+        private int position;
+
+        void write(byte[] bytes) {
+            chunks.add(bytes);
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) < 0 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (current == null || position == current.length) {
+                if (current == EOF) {
+                    return -1;
+                }
+                try {
+                    current = chunks.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for input", e);
+                }
+                position = 0;
+                if (current == EOF) {
+                    return -1;
+                }
+            }
+            int count = Math.min(len, current.length - position);
+            System.arraycopy(current, position, b, off, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+            chunks.add(EOF);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package org.testcontainers.containers;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.UnstableAPI;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A lease on a reused container, held by one JVM at a time.
+ * <p>
+ * Containers started with {@link GenericContainer#withLeasedReuse(boolean) leased reuse} are shared by all JVMs on
+ * the host that start the same container definition, e.g. parallel test forks. Each JVM holds a lease with its own
+ * {@link #getNamespace() namespace} (database, virtual host, key prefix, ...), so that the JVMs do not see each
+ * other's data.
+ * <p>
+ * Leases are file locks in the temporary directory, so they are released when the JVM exits, even if it crashes.
+ */
+@UnstableAPI
+@Slf4j
+public final class ReuseLease implements AutoCloseable {
+
+    private static final int MAX_LEASES = 256;
+
+    private static final Path LEASES_DIRECTORY = Paths.get(
+        System.getProperty("java.io.tmpdir"),
+        "testcontainers-leases"
+    );
+
+    // file locks are held by the whole JVM, threads of the same JVM are serialized separately
+    private static final Map<String, Lock> CREATION_LOCKS = new ConcurrentHashMap<>();
+
+    @Getter
+    private final String hash;
+
+    @Getter
+    private final int index;
+
+    private final FileChannel channel;
+
+    private final FileLock lock;
+
+    private ReuseLease(String hash, int index, FileChannel channel, FileLock lock) {
+        this.hash = hash;
+        this.index = index;
+        this.channel = channel;
+        this.lock = lock;
+    }
+
+    /**
+     * @return the name of the isolated namespace of this lease, a valid identifier in most databases and brokers
+     */
+    public String getNamespace() {
+        return "testcontainers_lease_" + index;
+    }
+
+    /**
+     * Takes the lowest lease on the container with the given hash that is not held by any JVM.
+     */
+    static ReuseLease acquire(String hash) throws IOException {
+        Path directory = LEASES_DIRECTORY.resolve(hash);
+        Files.createDirectories(directory);
+
+        for (int index = 0; index < MAX_LEASES; index++) {
+            FileChannel channel = FileChannel.open(
+                directory.resolve(index + ".lock"),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE
+            );
+            FileLock lock;
+            try {
+                lock = channel.tryLock();
+            } catch (OverlappingFileLockException e) {
+                // held by this JVM
+                lock = null;
+            }
+
+            if (lock != null) {
+                log.debug("Acquired lease {} on reused container with hash: {}", index, hash);
+                return new ReuseLease(hash, index, channel, lock);
+            }
+            channel.close();
+        }
+
+        throw new IllegalStateException("All " + MAX_LEASES + " leases on reused container " + hash + " are taken");
+    }
+
+    /**
+     * Blocks until no other thread or JVM is looking up or creating the container with the given hash.
+     *
+     * @return the lock to close once the container is running
+     */
+    static CreationLock lockCreation(String hash) throws IOException {
+        Lock localLock = CREATION_LOCKS.computeIfAbsent(hash, __ -> new ReentrantLock());
+        localLock.lock();
+        try {
+            Files.createDirectories(LEASES_DIRECTORY);
+            FileChannel channel = FileChannel.open(
+                LEASES_DIRECTORY.resolve(hash + ".lock"),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE
+            );
+            try {
+                channel.lock();
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+            return () -> {
+                try {
+                    channel.close();
+                } finally {
+                    localLock.unlock();
+                }
+            };
+        } catch (IOException | RuntimeException e) {
+            localLock.unlock();
+            throw e;
+        }
+    }
+
+    /**
+     * Releases the lease, so that another JVM can take it. The container keeps running.
+     */
+    @Override
+    public void close() {
+        try {
+            lock.release();
+            channel.close();
+            log.debug("Released lease {} on reused container with hash: {}", index, hash);
+        } catch (IOException e) {
+            log.warn("Could not release lease {} on reused container with hash: {}", index, hash, e);
+        }
+    }
+
+    @FunctionalInterface
+    interface CreationLock extends AutoCloseable {
+        @Override
+        void close() throws IOException;
+    }
+}
@@ -0,0 +1,154 @@
+package org.testcontainers.containers.output;
+
+import com.google.common.base.Preconditions;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A consumer for container output that keeps only the most recent lines, bounded by a number of lines and of bytes.
+ * <p>
+ * Unlike {@link ToStringConsumer}, memory use does not grow with the lifetime of the container, so output of
+ * long-running containers can be captured for diagnostics. Lines that are evicted may optionally be appended to
+ * a spill file instead of being discarded.
+ */
+public class BoundedLogConsumer extends BaseConsumer<BoundedLogConsumer> implements Closeable {
+
+    private final int maxLines;
+
+    private final long maxBytes;
+
+    // guarded by this
+    private final ArrayDeque<OutputFrame> frames = new ArrayDeque<>();
+
+    private long retainedBytes = 0;
+
+    private long droppedLines = 0;
+
+    private Path spillFile;
+
+    private FileChannel spillChannel;
+
+    /**
+     * @param maxLines the maximum number of lines to keep
+     * @param maxBytes the maximum number of bytes to keep
+     */
+    public BoundedLogConsumer(int maxLines, long maxBytes) {
+        Preconditions.checkArgument(maxLines > 0, "maxLines must be greater than zero");
+        Preconditions.checkArgument(maxBytes > 0, "maxBytes must be greater than zero");
+        this.maxLines = maxLines;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Append evicted lines to the given file rather than discarding them. The file is created if necessary.
+     *
+     * @param spillFile the file to append evicted lines to
+     * @return this
+     */
+    public synchronized BoundedLogConsumer withSpillFile(Path spillFile) {
+        this.spillFile = spillFile;
+        return this;
+    }
+
+    @Override
+    public synchronized void accept(OutputFrame outputFrame) {
+        final byte[] bytes = outputFrame.getBytes();
+        if (bytes == null) {
+            return;
+        }
+
+        frames.addLast(outputFrame);
+        retainedBytes += bytes.length;
+
+        while (!frames.isEmpty() && (frames.size() > maxLines || retainedBytes > maxBytes)) {
+            OutputFrame evicted = frames.removeFirst();
+            retainedBytes -= evicted.getBytes().length;
+            droppedLines++;
+            spill(evicted);
+        }
+    }
+
+    /**
+     * @param lines the maximum number of lines to return
+     * @return up to the given number of the most recent lines, oldest first
+     */
+    public synchronized List<OutputFrame> tail(int lines) {
+        ArrayDeque<OutputFrame> result = new ArrayDeque<>(Math.min(lines, frames.size()));
+        Iterator<OutputFrame> iterator = frames.descendingIterator();
+        while (iterator.hasNext() && result.size() < lines) {
+            result.addFirst(iterator.next());
+        }
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * @return the number of lines that were evicted (and spilled, if a spill file is configured)
+     */
+    public synchronized long getDroppedLines() {
+        return droppedLines;
+    }
+
+    public String toUtf8String() {
+        return toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param charset the charset of the container output
+     * @return the retained lines
+     */
+    public String toString(Charset charset) {
+        ByteArrayOutputStream buffer;
+        synchronized (this) {
+            buffer = new ByteArrayOutputStream((int) retainedBytes);
+            for (OutputFrame frame : frames) {
+                buffer.write(frame.getBytes(), 0, frame.getBytes().length);
+            }
+        }
+        return new String(buffer.toByteArray(), charset);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (spillChannel != null) {
+            spillChannel.close();
+            spillChannel = null;
+        }
+    }
+
+    private void spill(OutputFrame frame) {
+        if (spillFile == null) {
+            return;
+        }
+
+        try {
+            if (spillChannel == null) {
+                spillChannel =
+                    FileChannel.open(
+                        spillFile,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND
+                    );
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(frame.getBytes());
+            while (buffer.hasRemaining()) {
+                spillChannel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
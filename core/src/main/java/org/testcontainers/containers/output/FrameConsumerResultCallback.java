@@ -5,14 +5,12 @@ import com.github.dockerjava.api.model.Frame;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.function.Consumer;
-import java.util.regex.Pattern;
 
 /**
  * This class can be used as a generic callback for docker-java commands that produce Frames.
@@ -80,13 +78,20 @@ public class FrameConsumerResultCallback extends ResultCallbackTemplate<FrameCon
 
     private static class LineConsumer {
 
-        private static final Pattern ANSI_COLOR_PATTERN = Pattern.compile("\u001B\\[[0-9;]+m");
+        private static final byte ESC = 0x1B;
+
+        private static final int INITIAL_BUFFER_SIZE = 256;
+
+        private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
 
         private final OutputFrame.OutputType type;
 
         private final Consumer<OutputFrame> consumer;
 
-        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        // holds an incomplete line until its end arrives, complete lines within a payload are never copied into it
+        private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+
+        private int bufferLength = 0;
 
         private boolean lastCR = false;
 
@@ -97,37 +102,34 @@ public class FrameConsumerResultCallback extends ResultCallbackTemplate<FrameCon
 
         void processFrame(final byte[] b) {
             int start = 0;
-            int i = 0;
-            while (i < b.length) {
+            for (int i = 0; i < b.length; i++) {
                 switch (b[i]) {
                     case '\n':
-                        buffer.write(b, start, i + 1 - start);
+                        consume(b, start, i + 1);
                         start = i + 1;
-                        consume();
                         lastCR = false;
                         break;
                     case '\r':
                         if (lastCR) {
-                            consume();
+                            consume(b, i, i);
                         }
-                        buffer.write(b, start, i + 1 - start);
+                        append(b, start, i + 1);
                         start = i + 1;
                         lastCR = true;
                         break;
                     default:
                         if (lastCR) {
-                            consume();
+                            consume(b, i, i);
                         }
                         lastCR = false;
                 }
-                i++;
             }
-            buffer.write(b, start, b.length - start);
+            append(b, start, b.length);
         }
 
         void processBuffer() {
-            if (buffer.size() > 0) {
-                consume();
+            if (bufferLength > 0) {
+                consume(buffer, 0, 0);
             }
         }
 
@@ -135,18 +137,91 @@ public class FrameConsumerResultCallback extends ResultCallbackTemplate<FrameCon
             consumer.accept(OutputFrame.END);
         }
 
-        private void consume() {
-            final String string = new String(buffer.toByteArray(), StandardCharsets.UTF_8);
-            final byte[] bytes = processAnsiColorCodes(string).getBytes(StandardCharsets.UTF_8);
+        /**
+         * Emits the buffered bytes followed by {@code b[from, to)} as one line.
+         */
+        private void consume(final byte[] b, final int from, final int to) {
+            if (bufferLength == 0) {
+                emit(b, from, to);
+                return;
+            }
+
+            append(b, from, to);
+            emit(buffer, 0, bufferLength);
+            bufferLength = 0;
+            if (buffer.length > MAX_RETAINED_BUFFER_SIZE) {
+                buffer = new byte[INITIAL_BUFFER_SIZE];
+            }
+        }
+
+        private void append(final byte[] b, final int from, final int to) {
+            int length = to - from;
+            if (length == 0) {
+                return;
+            }
+            if (bufferLength + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, bufferLength + length));
+            }
+            System.arraycopy(b, from, buffer, bufferLength, length);
+            bufferLength += length;
+        }
+
+        private void emit(final byte[] b, final int from, final int to) {
+            final byte[] bytes = isRemoveColorCodes()
+                ? removeAnsiColorCodes(b, from, to)
+                : Arrays.copyOfRange(b, from, to);
             consumer.accept(new OutputFrame(type, bytes));
-            buffer.reset();
         }
 
-        private String processAnsiColorCodes(final String utf8String) {
-            if (!(consumer instanceof BaseConsumer) || ((BaseConsumer<?>) consumer).isRemoveColorCodes()) {
-                return ANSI_COLOR_PATTERN.matcher(utf8String).replaceAll("");
+        private boolean isRemoveColorCodes() {
+            return !(consumer instanceof BaseConsumer) || ((BaseConsumer<?>) consumer).isRemoveColorCodes();
+        }
+
+        /**
+         * Copies {@code b[from, to)} without ANSI color sequences ({@code ESC [ [0-9;]+ m}).
+         * Works on the UTF-8 bytes directly, as neither ESC nor the sequence characters occur inside multibyte characters.
+         */
+        private static byte[] removeAnsiColorCodes(final byte[] b, final int from, final int to) {
+            int escape = indexOf(b, from, to, ESC);
+            if (escape < 0) {
+                return Arrays.copyOfRange(b, from, to);
+            }
+
+            final byte[] result = new byte[to - from];
+            int length = 0;
+            int i = from;
+            while (i < to) {
+                int end = colorCodeEnd(b, i, to);
+                if (end > i) {
+                    i = end;
+                } else {
+                    result[length++] = b[i++];
+                }
+            }
+            return length == result.length ? result : Arrays.copyOf(result, length);
+        }
+
+        /**
+         * @return the index after the color sequence starting at {@code i}, or {@code i} if there is none
+         */
+        private static int colorCodeEnd(final byte[] b, final int i, final int to) {
+            if (b[i] != ESC || i + 1 >= to || b[i + 1] != '[') {
+                return i;
+            }
+            int j = i + 2;
+            while (j < to && ((b[j] >= '0' && b[j] <= '9') || b[j] == ';')) {
+                j++;
+            }
+            return (j > i + 2 && j < to && b[j] == 'm') ? j + 1 : i;
+        }
+
+        private static int indexOf(final byte[] b, final int from, final int to, final byte value) {
+            for (int i = from; i < to; i++) {
+                if (b[i] == value) {
+                    return i;
+                }
             }
-            return utf8String;
+            return -1;
         }
     }
 }
@@ -3,6 +3,11 @@ package org.testcontainers.containers.output;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -11,6 +16,9 @@ import java.util.function.Predicate;
 /**
  * A consumer for container output that buffers lines in a {@link java.util.concurrent.BlockingDeque} and enables tests
  * to wait for a matching condition.
+ * <p>
+ * Frames are handed directly to active waiters as they arrive, so a wait completes as soon as the matching frame
+ * is received. Frames that arrive while nobody is waiting are buffered and examined by the next wait.
  */
 public class WaitingConsumer extends BaseConsumer<WaitingConsumer> {
 
@@ -18,9 +26,36 @@ public class WaitingConsumer extends BaseConsumer<WaitingConsumer> {
 
     private LinkedBlockingDeque<OutputFrame> frames = new LinkedBlockingDeque<>();
 
+    // guarded by this
+    private final List<Waiter> waiters = new ArrayList<>();
+
     @Override
     public void accept(OutputFrame frame) {
-        frames.add(frame);
+        List<Waiter> satisfied = new ArrayList<>();
+        synchronized (this) {
+            boolean delivered = false;
+            for (Iterator<Waiter> iterator = waiters.iterator(); iterator.hasNext();) {
+                Waiter waiter = iterator.next();
+                if (waiter.future.isDone()) {
+                    // cancelled or timed out
+                    iterator.remove();
+                    continue;
+                }
+
+                delivered = true;
+                if (waiter.offer(frame)) {
+                    iterator.remove();
+                    satisfied.add(waiter);
+                }
+            }
+
+            if (!delivered) {
+                frames.add(frame);
+            }
+        }
+
+        // complete outside of the lock, as completion runs the dependent actions of the futures
+        satisfied.forEach(Waiter::complete);
     }
 
     /**
@@ -80,37 +115,40 @@ public class WaitingConsumer extends BaseConsumer<WaitingConsumer> {
 
     private void waitUntil(Predicate<OutputFrame> predicate, long timeoutLimitInNanos, int times)
         throws TimeoutException {
-        int numberOfMatches = 0;
-
-        final long startTime = System.nanoTime();
-
-        while (System.nanoTime() - startTime < timeoutLimitInNanos) {
-            try {
-                final OutputFrame frame = frames.pollLast(100, TimeUnit.MILLISECONDS);
-
-                if (frame != null) {
-                    LOGGER.debug("{}: {}", frame.getType(), frame.getUtf8StringWithoutLineEnding());
-
-                    if (predicate.test(frame)) {
-                        numberOfMatches++;
+        await(waitUntilAsync(predicate, times), timeoutLimitInNanos);
+    }
 
-                        if (numberOfMatches == times) {
-                            return;
-                        }
-                    }
-                }
+    /**
+     * Returns a future that completes once frames (usually, lines) of output have matched the provided predicate
+     * the given number of times. Buffered frames are examined first, starting with the most recent one,
+     * later frames as soon as they arrive.
+     * <p>
+     * Cancelling the future stops the wait. Note that lines will often have a trailing newline character,
+     * and this is not stripped off before the predicate is tested.
+     *
+     * @param predicate a predicate to test against each frame
+     * @param times     number of times the predicate has to match
+     * @return a future that completes once the predicate has matched, or exceptionally if the predicate throws
+     */
+    public CompletableFuture<Void> waitUntilAsync(Predicate<OutputFrame> predicate, int times) {
+        Waiter waiter = new Waiter(predicate, times);
+        boolean satisfied = times <= 0;
+        synchronized (this) {
+            OutputFrame frame;
+            // examined buffered frames are consumed, whether they match or not
+            while (!satisfied && (frame = frames.pollLast()) != null) {
+                satisfied = waiter.offer(frame);
+            }
 
-                if (frames.isEmpty()) {
-                    // sleep for a moment to avoid excessive CPU spinning
-                    Thread.sleep(10L);
-                }
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
+            if (!satisfied) {
+                waiters.add(waiter);
             }
         }
 
-        // did not return before expiry was reached
-        throw new TimeoutException();
+        if (satisfied) {
+            waiter.complete();
+        }
+        return waiter.future;
     }
 
     /**
@@ -118,7 +156,7 @@ public class WaitingConsumer extends BaseConsumer<WaitingConsumer> {
      */
     public void waitUntilEnd() {
         try {
-            waitUntilEnd(Long.MAX_VALUE);
+            waitUntilEnd(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
         } catch (TimeoutException e) {
             // timeout condition can never occur in a realistic timeframe
             throw new IllegalStateException(e);
@@ -132,28 +170,72 @@ public class WaitingConsumer extends BaseConsumer<WaitingConsumer> {
      * @param limitUnit maximum time to wait (units)
      */
     public void waitUntilEnd(long limit, TimeUnit limitUnit) throws TimeoutException {
-        long expiry = limitUnit.toNanos(limit) + System.nanoTime();
+        try {
+            await(waitUntilAsync(frame -> frame == OutputFrame.END, 1), limitUnit.toNanos(limit));
+        } catch (TimeoutException e) {
+            throw new TimeoutException("Expiry time reached before end of output");
+        }
+    }
 
-        waitUntilEnd(expiry);
+    private void await(CompletableFuture<Void> future, long timeoutLimitInNanos) throws TimeoutException {
+        try {
+            future.get(timeoutLimitInNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // did not return before expiry was reached
+            future.cancel(false);
+            throw new TimeoutException();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
     }
 
-    private void waitUntilEnd(Long expiry) throws TimeoutException {
-        while (System.nanoTime() < expiry) {
-            try {
-                OutputFrame frame = frames.pollLast(100, TimeUnit.MILLISECONDS);
+    private static class Waiter {
 
-                if (frame == OutputFrame.END) {
-                    return;
-                }
+        private final Predicate<OutputFrame> predicate;
 
-                if (frames.isEmpty()) {
-                    // sleep for a moment to avoid excessive CPU spinning
-                    Thread.sleep(10L);
-                }
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private int remaining;
+
+        private Throwable failure;
+
+        Waiter(Predicate<OutputFrame> predicate, int times) {
+            this.predicate = predicate;
+            this.remaining = times;
+        }
+
+        /**
+         * @return whether the waiter is satisfied and does not need more frames
+         */
+        boolean offer(OutputFrame frame) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("{}: {}", frame.getType(), frame.getUtf8StringWithoutLineEnding());
+            }
+
+            try {
+                return predicate.test(frame) && --remaining <= 0;
+            } catch (Throwable e) {
+                // fail the waiter instead of letting it hang until the timeout
+                failure = e;
+                return true;
+            }
+        }
+
+        void complete() {
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(null);
             }
         }
-        throw new TimeoutException("Expiry time reached before end of output");
     }
 }
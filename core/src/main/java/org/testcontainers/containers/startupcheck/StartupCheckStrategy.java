@@ -6,8 +6,12 @@ import org.rnorth.ducttape.ratelimits.RateLimiter;
 import org.rnorth.ducttape.ratelimits.RateLimiterBuilder;
 import org.rnorth.ducttape.unreliables.Unreliables;
 import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerEventsHub;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -21,6 +25,12 @@ public abstract class StartupCheckStrategy {
         .withConstantThroughput()
         .build();
 
+    private static final Duration POLL_INTERVAL = Duration.ofSeconds(1);
+
+    private static final Set<String> STATE_CHANGE_ACTIONS = new HashSet<>(
+        Arrays.asList("start", "restart", "die", "kill", "oom", "stop", "destroy")
+    );
+
     private Duration timeout = Duration.ofSeconds(GenericContainer.CONTAINER_RUNNING_TIMEOUT_SEC);
 
     @SuppressWarnings("unchecked")
@@ -40,24 +50,30 @@ public abstract class StartupCheckStrategy {
 
     public boolean waitUntilStartupSuccessful(DockerClient dockerClient, String containerId) {
         final Boolean[] startedOK = { null };
+        final boolean[] stateChanged = { false };
         Unreliables.retryUntilTrue(
             (int) timeout.toMillis(),
             TimeUnit.MILLISECONDS,
             () -> {
-                //noinspection CodeBlock2Expr
-                return DOCKER_CLIENT_RATE_LIMITER.getWhenReady(() -> {
-                    StartupStatus state = checkStartupState(dockerClient, containerId);
-                    switch (state) {
-                        case SUCCESSFUL:
-                            startedOK[0] = true;
-                            return true;
-                        case FAILED:
-                            startedOK[0] = false;
-                            return true;
-                        default:
-                            return false;
-                    }
-                });
+                // checks that were not triggered by a state change event are polls, which share the JVM-wide rate
+                StartupStatus state = stateChanged[0]
+                    ? checkStartupState(dockerClient, containerId)
+                    : DOCKER_CLIENT_RATE_LIMITER.getWhenReady(() -> checkStartupState(dockerClient, containerId));
+                switch (state) {
+                    case SUCCESSFUL:
+                        startedOK[0] = true;
+                        return true;
+                    case FAILED:
+                        startedOK[0] = false;
+                        return true;
+                    default:
+                        // check again once the container state changes, or after the poll interval
+                        stateChanged[0] =
+                            DockerEventsHub
+                                .instance()
+                                .await(containerId, STATE_CHANGE_ACTIONS::contains, POLL_INTERVAL);
+                        return false;
+                }
             }
         );
         return startedOK[0];
@@ -3,18 +3,28 @@ package org.testcontainers.containers.wait.internal;
 import lombok.RequiredArgsConstructor;
 import org.testcontainers.containers.ContainerState;
 
-import java.io.IOException;
 import java.net.InetSocketAddress;
-import java.net.Socket;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Mechanism for testing that a socket is listening when run from the test host.
+ * Connections to all ports are attempted concurrently, without blocking a thread per port.
  */
 @RequiredArgsConstructor
 public class ExternalPortListeningCheck implements Callable<Boolean> {
 
+    private static final long CONNECT_TIMEOUT_MILLIS = 1000;
+
+    // leaves room for the selector thread to notice that the connect timeout has passed
+    private static final long RESULT_TIMEOUT_MILLIS = 2 * CONNECT_TIMEOUT_MILLIS;
+
     private final ContainerState containerState;
 
     private final Set<Integer> externalLivenessCheckPorts;
@@ -23,16 +33,30 @@ public class ExternalPortListeningCheck implements Callable<Boolean> {
     public Boolean call() {
         String address = containerState.getHost();
 
-        externalLivenessCheckPorts
-            .parallelStream()
-            .forEach(externalPort -> {
-                try (Socket socket = new Socket()) {
-                    InetSocketAddress inetSocketAddress = new InetSocketAddress(address, externalPort);
-                    socket.connect(inetSocketAddress, 1000);
-                } catch (IOException e) {
-                    throw new IllegalStateException("Socket not listening yet: " + externalPort);
-                }
-            });
+        Map<Integer, CompletableFuture<Boolean>> attempts = new HashMap<>();
+        for (Integer externalPort : externalLivenessCheckPorts) {
+            attempts.put(
+                externalPort,
+                PortConnectProbe.INSTANCE.connect(new InetSocketAddress(address, externalPort), CONNECT_TIMEOUT_MILLIS)
+            );
+        }
+
+        attempts.forEach((externalPort, connected) -> {
+            if (!isConnected(connected)) {
+                throw new IllegalStateException("Socket not listening yet: " + externalPort);
+            }
+        });
         return true;
     }
+
+    private static boolean isConnected(CompletableFuture<Boolean> connected) {
+        try {
+            return connected.get(RESULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
 }
@@ -0,0 +1,171 @@
+package org.testcontainers.containers.wait.internal;
+
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.utility.TestcontainersThreadFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Attempts TCP connections with non-blocking {@link SocketChannel}s, multiplexed on a single {@link Selector} thread
+ * that is shared by all port checks in the JVM.
+ */
+@Slf4j
+final class PortConnectProbe {
+
+    static final PortConnectProbe INSTANCE = new PortConnectProbe();
+
+    private final Queue<Attempt> pending = new ConcurrentLinkedQueue<>();
+
+    // guarded by this
+    private Selector selector;
+
+    private PortConnectProbe() {}
+
+    /**
+     * @param address the address to connect to
+     * @param timeoutMillis the maximum time to wait for the connection to be established
+     * @return a future that resolves to whether a connection could be established
+     */
+    CompletableFuture<Boolean> connect(InetSocketAddress address, long timeoutMillis) {
+        Attempt attempt = new Attempt(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+        try {
+            attempt.channel = SocketChannel.open();
+            attempt.channel.configureBlocking(false);
+            if (attempt.channel.connect(address)) {
+                attempt.complete(true);
+            } else {
+                pending.add(attempt);
+                ensureStarted().wakeup();
+            }
+        } catch (IOException | RuntimeException e) {
+            // e.g. connection refused right away, or an unresolvable address
+            attempt.complete(false);
+        }
+        return attempt.result;
+    }
+
+    private synchronized Selector ensureStarted() throws IOException {
+        if (selector == null) {
+            selector = Selector.open();
+            TestcontainersThreadFactory.of("testcontainers-port-probe-").newThread(this::run).start();
+        }
+        return selector;
+    }
+
+    private void run() {
+        // no timeout while nothing is registered, new attempts wake the selector up
+        long selectTimeoutMillis = 0;
+        while (true) {
+            try {
+                selector.select(selectTimeoutMillis);
+
+                Attempt attempt;
+                while ((attempt = pending.poll()) != null) {
+                    try {
+                        attempt.channel.register(selector, SelectionKey.OP_CONNECT, attempt);
+                    } catch (IOException e) {
+                        attempt.complete(false);
+                    }
+                }
+
+                Iterator<SelectionKey> selected = selector.selectedKeys().iterator();
+                while (selected.hasNext()) {
+                    SelectionKey key = selected.next();
+                    selected.remove();
+                    finish(key);
+                }
+
+                long now = System.nanoTime();
+                long untilNextDeadline = Long.MAX_VALUE;
+                for (SelectionKey key : selector.keys()) {
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    Attempt registered = (Attempt) key.attachment();
+                    long remaining = registered.deadline - now;
+                    if (remaining > 0) {
+                        untilNextDeadline = Math.min(untilNextDeadline, remaining);
+                    } else {
+                        key.cancel();
+                        registered.complete(false);
+                    }
+                }
+                selectTimeoutMillis =
+                    untilNextDeadline == Long.MAX_VALUE ? 0 : Math.max(1, TimeUnit.NANOSECONDS.toMillis(untilNextDeadline));
+            } catch (ClosedSelectorException e) {
+                log.debug("Port check selector was closed, stopping");
+                return;
+            } catch (Exception e) {
+                log.debug("Unexpected failure while checking ports", e);
+            } catch (Error e) {
+                stop();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Fails all attempts and closes the selector, so that the next attempt starts a new selector thread.
+     */
+    private synchronized void stop() {
+        for (SelectionKey key : selector.keys()) {
+            ((Attempt) key.attachment()).complete(false);
+        }
+        Attempt attempt;
+        while ((attempt = pending.poll()) != null) {
+            attempt.complete(false);
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            log.debug("Could not close the port check selector", e);
+        }
+        selector = null;
+    }
+
+    private static void finish(SelectionKey key) {
+        Attempt attempt = (Attempt) key.attachment();
+        key.cancel();
+        boolean connected = false;
+        try {
+            connected = attempt.channel.finishConnect();
+        } catch (IOException e) {
+            log.trace("Could not connect", e);
+        } finally {
+            // also completes the attempt if finishConnect fails with an unexpected exception or error
+            attempt.complete(connected);
+        }
+    }
+
+    private static final class Attempt {
+
+        private final long deadline;
+
+        private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+        private SocketChannel channel;
+
+        Attempt(long deadline) {
+            this.deadline = deadline;
+        }
+
+        void complete(boolean connected) {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {}
+            }
+            result.complete(connected);
+        }
+    }
+}
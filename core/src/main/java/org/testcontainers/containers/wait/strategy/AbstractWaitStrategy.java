@@ -1,30 +1,24 @@
 package org.testcontainers.containers.wait.strategy;
 
+import com.github.dockerjava.api.command.InspectContainerResponse;
 import lombok.NonNull;
 import org.rnorth.ducttape.ratelimits.RateLimiter;
 import org.rnorth.ducttape.ratelimits.RateLimiterBuilder;
+import org.testcontainers.utility.StartupHistory;
+import org.testcontainers.utility.StartupPollSchedule;
+import org.testcontainers.utility.TestcontainersThreadFactory;
 
 import java.time.Duration;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
 
 public abstract class AbstractWaitStrategy implements WaitStrategy {
 
     static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(
-        new ThreadFactory() {
-            private final AtomicLong COUNTER = new AtomicLong(0);
-
-            @Override
-            public Thread newThread(Runnable r) {
-                Thread thread = new Thread(r, "testcontainers-wait-" + COUNTER.getAndIncrement());
-                thread.setDaemon(true);
-                return thread;
-            }
-        }
+        TestcontainersThreadFactory.of("testcontainers-wait-")
     );
 
     private static final RateLimiter DOCKER_CLIENT_RATE_LIMITER = RateLimiterBuilder
@@ -33,13 +27,18 @@ public abstract class AbstractWaitStrategy implements WaitStrategy {
         .withConstantThroughput()
         .build();
 
+    private static final Duration DOCKER_CLIENT_RATE_LIMITER_INTERVAL = Duration.ofSeconds(1);
+
     protected WaitStrategyTarget waitStrategyTarget;
 
     @NonNull
     protected Duration startupTimeout = Duration.ofSeconds(60);
 
-    @NonNull
-    private RateLimiter rateLimiter = DOCKER_CLIENT_RATE_LIMITER;
+    private RateLimiter rateLimiter;
+
+    private StartupPollSchedule pollSchedule;
+
+    private RateLimiter scheduledRateLimiter;
 
     /**
      * Wait until the target has started.
@@ -49,7 +48,20 @@ public abstract class AbstractWaitStrategy implements WaitStrategy {
     @Override
     public void waitUntilReady(WaitStrategyTarget waitStrategyTarget) {
         this.waitStrategyTarget = waitStrategyTarget;
+
+        String image = getImage(waitStrategyTarget);
+        StartupPollSchedule schedule = StartupHistory.getInstance().schedule(image, getClass().getName());
+        this.pollSchedule = schedule;
+        this.scheduledRateLimiter = boundedByDockerClientRateLimiter(
+            schedule.asRateLimiter(DOCKER_CLIENT_RATE_LIMITER_INTERVAL)
+        );
+
         waitUntilReady();
+
+        // a target that is ready on the first probe (e.g. a reused container) tells nothing about its startup time
+        if (schedule.getDelays() > 0) {
+            StartupHistory.getInstance().record(image, getClass().getName(), schedule.getElapsed());
+        }
     }
 
     /**
@@ -77,10 +89,52 @@ public abstract class AbstractWaitStrategy implements WaitStrategy {
     }
 
     /**
-     * @return the rate limiter to use
+     * @return the rate limiter to use. Unless a rate limiter was set explicitly, it follows {@link #getPollSchedule()},
+     * but never probes more often than the rate limit for Docker clients shared by all wait strategies.
      */
     protected RateLimiter getRateLimiter() {
-        return rateLimiter;
+        if (rateLimiter != null) {
+            return rateLimiter;
+        }
+        return scheduledRateLimiter != null ? scheduledRateLimiter : DOCKER_CLIENT_RATE_LIMITER;
+    }
+
+    /**
+     * @return whether a rate limiter was set explicitly with {@link #withRateLimiter(RateLimiter)}
+     */
+    boolean isRateLimiterSet() {
+        return rateLimiter != null;
+    }
+
+    /**
+     * @return a rate limiter that waits for {@code scheduled}, and then for {@link #DOCKER_CLIENT_RATE_LIMITER}
+     */
+    private static RateLimiter boundedByDockerClientRateLimiter(RateLimiter scheduled) {
+        return new RateLimiter() {
+            @Override
+            public void doWhenReady(Runnable action) {
+                scheduled.doWhenReady(() -> DOCKER_CLIENT_RATE_LIMITER.doWhenReady(action));
+            }
+
+            @Override
+            public <T> T getWhenReady(Callable<T> action) throws Exception {
+                return scheduled.getWhenReady(() -> DOCKER_CLIENT_RATE_LIMITER.getWhenReady(action));
+            }
+
+            @Override
+            protected long getWaitBeforeNextInvocation() {
+                return 0;
+            }
+        };
+    }
+
+    /**
+     * @return the schedule of readiness probes for the current wait, based on how long the image took to become
+     * ready in previous runs. Polling loops that do not go through {@link #getRateLimiter()} should take their delays
+     * from it, so that the readiness time can be recorded.
+     */
+    protected StartupPollSchedule getPollSchedule() {
+        return pollSchedule;
     }
 
     /**
@@ -89,8 +143,18 @@ public abstract class AbstractWaitStrategy implements WaitStrategy {
      * @param rateLimiter rateLimiter
      * @return this
      */
-    public WaitStrategy withRateLimiter(RateLimiter rateLimiter) {
+    public WaitStrategy withRateLimiter(@NonNull RateLimiter rateLimiter) {
         this.rateLimiter = rateLimiter;
         return this;
     }
+
+    private static String getImage(WaitStrategyTarget waitStrategyTarget) {
+        InspectContainerResponse containerInfo = waitStrategyTarget != null
+            ? waitStrategyTarget.getContainerInfo()
+            : null;
+        if (containerInfo == null || containerInfo.getConfig() == null) {
+            return null;
+        }
+        return containerInfo.getConfig().getImage();
+    }
 }
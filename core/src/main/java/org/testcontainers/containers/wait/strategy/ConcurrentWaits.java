@@ -0,0 +1,73 @@
+package org.testcontainers.containers.wait.strategy;
+
+import com.google.common.base.Throwables;
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+
+/**
+ * Runs several wait strategies concurrently on the wait strategy executor.
+ */
+@UtilityClass
+class ConcurrentWaits {
+
+    /**
+     * Waits until all strategies are ready. Fails as soon as one of them fails, interrupting the others.
+     */
+    void waitUntilAllReady(List<WaitStrategy> strategies, WaitStrategyTarget waitStrategyTarget) {
+        run(strategies, waitStrategyTarget, strategies.size());
+    }
+
+    /**
+     * Waits until any strategy is ready, interrupting the others. Fails once all of them have failed.
+     */
+    void waitUntilAnyReady(List<WaitStrategy> strategies, WaitStrategyTarget waitStrategyTarget) {
+        run(strategies, waitStrategyTarget, 1);
+    }
+
+    private void run(List<WaitStrategy> strategies, WaitStrategyTarget waitStrategyTarget, int requiredSuccesses) {
+        if (strategies.isEmpty()) {
+            return;
+        }
+
+        CompletionService<Void> completionService = new ExecutorCompletionService<>(AbstractWaitStrategy.EXECUTOR);
+        List<Future<Void>> futures = new ArrayList<>();
+        for (WaitStrategy strategy : strategies) {
+            futures.add(
+                completionService.submit(() -> {
+                    strategy.waitUntilReady(waitStrategyTarget);
+                    return null;
+                })
+            );
+        }
+
+        int successes = 0;
+        int failures = 0;
+        Throwable lastFailure = null;
+        try {
+            while (successes < requiredSuccesses) {
+                try {
+                    completionService.take().get();
+                    successes++;
+                } catch (ExecutionException e) {
+                    failures++;
+                    lastFailure = e.getCause();
+                    if (requiredSuccesses == strategies.size() || failures == strategies.size()) {
+                        Throwables.throwIfUnchecked(lastFailure);
+                        throw new RuntimeException(lastFailure);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } finally {
+            futures.forEach(it -> it.cancel(true));
+        }
+    }
+}
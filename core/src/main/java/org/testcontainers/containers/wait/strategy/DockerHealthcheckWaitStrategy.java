@@ -3,7 +3,9 @@ package org.testcontainers.containers.wait.strategy;
 import org.rnorth.ducttape.TimeoutException;
 import org.rnorth.ducttape.unreliables.Unreliables;
 import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.utility.DockerEventsHub;
 
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -19,7 +21,20 @@ public class DockerHealthcheckWaitStrategy extends AbstractWaitStrategy {
             Unreliables.retryUntilTrue(
                 (int) startupTimeout.getSeconds(),
                 TimeUnit.SECONDS,
-                waitStrategyTarget::isHealthy
+                () -> {
+                    if (waitStrategyTarget.isHealthy()) {
+                        return true;
+                    }
+                    // check again once the health status changes, or after the poll interval
+                    DockerEventsHub
+                        .instance()
+                        .await(
+                            waitStrategyTarget.getContainerId(),
+                            action -> action.startsWith("health_status"),
+                            Duration.ofSeconds(1)
+                        );
+                    return false;
+                }
             );
         } catch (TimeoutException e) {
             throw new ContainerLaunchException("Timed out waiting for container to become healthy");
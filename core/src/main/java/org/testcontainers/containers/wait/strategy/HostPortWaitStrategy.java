@@ -9,6 +9,7 @@ import org.testcontainers.containers.wait.internal.InternalCommandPortListeningC
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
@@ -28,6 +29,8 @@ public class HostPortWaitStrategy extends AbstractWaitStrategy {
 
     private int[] ports;
 
+    private boolean skipInternalCheck = false;
+
     @Override
     @SneakyThrows(InterruptedException.class)
     protected void waitUntilReady() {
@@ -62,46 +65,49 @@ public class HostPortWaitStrategy extends AbstractWaitStrategy {
             externalLivenessCheckPorts
         );
 
-        try {
-            List<Future<Boolean>> futures = EXECUTOR.invokeAll(
-                Arrays.asList(
-                    // Blocking
-                    () -> {
-                        Instant now = Instant.now();
-                        Boolean result = internalCheck.call();
-                        log.debug(
-                            "Internal port check {} for {} in {}",
-                            Boolean.TRUE.equals(result) ? "passed" : "failed",
-                            internalPorts,
-                            Duration.between(now, Instant.now())
-                        );
-                        return result;
-                    },
-                    // Polling
-                    () -> {
-                        Instant now = Instant.now();
-                        Awaitility
-                            .await()
-                            .pollInSameThread()
-                            .pollInterval(Duration.ofMillis(100))
-                            .pollDelay(Duration.ZERO)
-                            .failFast("container is no longer running", () -> !waitStrategyTarget.isRunning())
-                            .ignoreExceptions()
-                            .forever()
-                            .until(externalCheck);
-
-                        log.debug(
-                            "External port check passed for {} mapped as {} in {}",
-                            internalPorts,
-                            externalLivenessCheckPorts,
-                            Duration.between(now, Instant.now())
-                        );
-                        return true;
-                    }
-                ),
-                startupTimeout.getSeconds(),
-                TimeUnit.SECONDS
+        List<Callable<Boolean>> checks = new ArrayList<>();
+        if (!skipInternalCheck) {
+            checks.add(
+                // Blocking
+                () -> {
+                    Instant now = Instant.now();
+                    Boolean result = internalCheck.call();
+                    log.debug(
+                        "Internal port check {} for {} in {}",
+                        Boolean.TRUE.equals(result) ? "passed" : "failed",
+                        internalPorts,
+                        Duration.between(now, Instant.now())
+                    );
+                    return result;
+                }
             );
+        }
+        checks.add(
+            // Polling
+            () -> {
+                Instant now = Instant.now();
+                Awaitility
+                    .await()
+                    .pollInSameThread()
+                    .pollInterval(getPollSchedule().asPollInterval(Duration.ofMillis(100)))
+                    .pollDelay(Duration.ZERO)
+                    .failFast("container is no longer running", () -> !waitStrategyTarget.isRunning())
+                    .ignoreExceptions()
+                    .forever()
+                    .until(externalCheck);
+
+                log.debug(
+                    "External port check passed for {} mapped as {} in {}",
+                    internalPorts,
+                    externalLivenessCheckPorts,
+                    Duration.between(now, Instant.now())
+                );
+                return true;
+            }
+        );
+
+        try {
+            List<Future<Boolean>> futures = EXECUTOR.invokeAll(checks, startupTimeout.getSeconds(), TimeUnit.SECONDS);
 
             for (Future<Boolean> future : futures) {
                 future.get(0, TimeUnit.SECONDS);
@@ -128,4 +134,17 @@ public class HostPortWaitStrategy extends AbstractWaitStrategy {
         this.ports = ports;
         return this;
     }
+
+    /**
+     * Only check that the ports can be connected to from the test host, without running a command inside the
+     * container to check that they are listening. Useful for images that do not contain a shell, such as
+     * distroless images. Note that depending on the Docker environment, a connection to a mapped port may
+     * succeed before the process inside the container is listening.
+     *
+     * @return this
+     */
+    public HostPortWaitStrategy skipInternalCheck() {
+        this.skipInternalCheck = true;
+        return this;
+    }
 }
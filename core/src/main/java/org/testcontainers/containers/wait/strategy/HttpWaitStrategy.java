@@ -1,13 +1,16 @@
 package org.testcontainers.containers.wait.strategy;
 
+import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import com.google.common.io.BaseEncoding;
+import com.google.common.io.ByteStreams;
 import lombok.extern.slf4j.Slf4j;
-import org.rnorth.ducttape.TimeoutException;
 import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.utility.TestcontainersThreadFactory;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
@@ -19,23 +22,33 @@ import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLSocketFactory;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509ExtendedTrustManager;
 
-import static org.rnorth.ducttape.unreliables.Unreliables.retryUntilSuccess;
-
 @Slf4j
 public class HttpWaitStrategy extends AbstractWaitStrategy {
 
@@ -49,7 +62,19 @@ public class HttpWaitStrategy extends AbstractWaitStrategy {
      */
     private static final String AUTH_BASIC = "Basic ";
 
-    private String path = "/";
+    /**
+     * Interval between probes without a startup history.
+     */
+    private static final Duration PROBE_INTERVAL = Duration.ofSeconds(1);
+
+    /**
+     * Schedules the probes of all HTTP waits.
+     */
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(
+        TestcontainersThreadFactory.of("testcontainers-http-wait-")
+    );
+
+    private List<String> paths = Collections.singletonList("/");
 
     private String method = "GET";
 
@@ -67,12 +92,15 @@ public class HttpWaitStrategy extends AbstractWaitStrategy {
 
     private Predicate<Integer> statusCodePredicate = null;
 
-    private Optional<Integer> livenessPort = Optional.empty();
+    private List<Integer> livenessPorts = Collections.emptyList();
 
     private Duration readTimeout = Duration.ofSeconds(1);
 
     private boolean allowInsecure;
 
+    // shared between attempts, so that TLS sessions and keep-alive connections can be reused
+    private SSLSocketFactory insecureSocketFactory;
+
     /**
      * Waits for the given status code.
      *
@@ -101,7 +129,19 @@ public class HttpWaitStrategy extends AbstractWaitStrategy {
      * @return this
      */
     public HttpWaitStrategy forPath(String path) {
-        this.path = path;
+        this.paths = Collections.singletonList(path);
+        return this;
+    }
+
+    /**
+     * Waits for all of the given paths, which are checked concurrently.
+     *
+     * @param paths the paths to check
+     * @return this
+     */
+    public HttpWaitStrategy forPaths(String... paths) {
+        Preconditions.checkArgument(paths.length > 0, "paths must not be empty");
+        this.paths = Arrays.asList(paths);
         return this;
     }
 
@@ -112,7 +152,19 @@ public class HttpWaitStrategy extends AbstractWaitStrategy {
      * @return this
      */
     public HttpWaitStrategy forPort(int port) {
-        this.livenessPort = Optional.of(port);
+        this.livenessPorts = Collections.singletonList(port);
+        return this;
+    }
+
+    /**
+     * Waits for all of the given ports, which are checked concurrently. Every port is checked with every path.
+     *
+     * @param ports the given ports
+     * @return this
+     */
+    public HttpWaitStrategy forPorts(int... ports) {
+        Preconditions.checkArgument(ports.length > 0, "ports must not be empty");
+        this.livenessPorts = Arrays.stream(ports).boxed().collect(Collectors.toList());
         return this;
     }
 
@@ -209,23 +261,55 @@ public class HttpWaitStrategy extends AbstractWaitStrategy {
     protected void waitUntilReady() {
         final String containerName = waitStrategyTarget.getContainerInfo().getName();
 
-        final Integer livenessCheckPort = livenessPort
-            .map(waitStrategyTarget::getMappedPort)
-            .orElseGet(() -> {
-                final Set<Integer> livenessCheckPorts = getLivenessCheckPorts();
-                if (livenessCheckPorts == null || livenessCheckPorts.isEmpty()) {
-                    log.warn("{}: No exposed ports or mapped ports - cannot wait for status", containerName);
-                    return -1;
-                }
-                return livenessCheckPorts.iterator().next();
-            });
+        final List<Integer> livenessCheckPorts;
+        if (!livenessPorts.isEmpty()) {
+            livenessCheckPorts =
+                livenessPorts.stream().map(waitStrategyTarget::getMappedPort).collect(Collectors.toList());
+        } else {
+            final Set<Integer> ports = getLivenessCheckPorts();
+            if (ports == null || ports.isEmpty()) {
+                log.warn("{}: No exposed ports or mapped ports - cannot wait for status", containerName);
+                return;
+            }
+            livenessCheckPorts = Collections.singletonList(ports.iterator().next());
+        }
+
+        final List<URI> uris = new ArrayList<>();
+        for (Integer livenessCheckPort : livenessCheckPorts) {
+            if (null == livenessCheckPort || -1 == livenessCheckPort) {
+                return;
+            }
+            for (String path : paths) {
+                uris.add(buildLivenessUri(livenessCheckPort, path));
+            }
+        }
+        uris.forEach(rawUri -> logWaiting(containerName, rawUri));
 
-        if (null == livenessCheckPort || -1 == livenessCheckPort) {
-            return;
+        // try to connect to the URLs
+        Probing probing = new Probing(uris);
+        try {
+            probing.start();
+            probing.ready.get(startupTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ContainerLaunchException(
+                String.format(
+                    "Timed out waiting for URL to be accessible (%s should return HTTP %s)",
+                    probing.pending.stream().map(URI::toString).sorted().collect(Collectors.joining(", ")),
+                    statusCodes.isEmpty() ? HttpURLConnection.HTTP_OK : statusCodes
+                ),
+                probing.lastFailure
+            );
+        } catch (ExecutionException e) {
+            throw new ContainerLaunchException("Could not wait for URL to be accessible", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } finally {
+            probing.stop();
         }
-        final URI rawUri = buildLivenessUri(livenessCheckPort);
-        final String uri = rawUri.toString();
+    }
 
+    private void logWaiting(String containerName, URI rawUri) {
         try {
             // Un-map the port for logging
             int originalPort = waitStrategyTarget
@@ -238,7 +322,7 @@ public class HttpWaitStrategy extends AbstractWaitStrategy {
                 "{}: Waiting for {} seconds for URL: {} (where port {} maps to container port {})",
                 containerName,
                 startupTimeout.getSeconds(),
-                uri,
+                rawUri,
                 rawUri.getPort(),
                 originalPort
             );
@@ -246,84 +330,64 @@ public class HttpWaitStrategy extends AbstractWaitStrategy {
             // do not allow a failure in logging to prevent progress, but log for diagnosis
             log.warn("Unexpected error occurred - will proceed to try to wait anyway", e);
         }
+    }
 
-        // try to connect to the URL
+    /**
+     * Sends one request and checks the response.
+     *
+     * @throws RuntimeException if the response does not indicate readiness
+     */
+    private void probe(final String uri) {
         try {
-            retryUntilSuccess(
-                (int) startupTimeout.getSeconds(),
-                TimeUnit.SECONDS,
-                () -> {
-                    getRateLimiter()
-                        .doWhenReady(() -> {
-                            try {
-                                final HttpURLConnection connection = openConnection(uri);
-                                connection.setReadTimeout(Math.toIntExact(readTimeout.toMillis()));
-
-                                // authenticate
-                                if (!Strings.isNullOrEmpty(username)) {
-                                    connection.setRequestProperty(
-                                        HEADER_AUTHORIZATION,
-                                        buildAuthString(username, password)
-                                    );
-                                    connection.setUseCaches(false);
-                                }
-
-                                // Add user configured headers
-                                this.headers.forEach(connection::setRequestProperty);
-                                connection.setRequestMethod(method);
-                                connection.connect();
-
-                                log.trace("Get response code {}", connection.getResponseCode());
-
-                                // Choose the statusCodePredicate strategy depending on what we defined.
-                                Predicate<Integer> predicate;
-                                if (statusCodes.isEmpty() && statusCodePredicate == null) {
-                                    // We have no status code and no predicate so we expect a 200 OK response code
-                                    predicate = responseCode -> HttpURLConnection.HTTP_OK == responseCode;
-                                } else if (!statusCodes.isEmpty() && statusCodePredicate == null) {
-                                    // We use the default status predicate checker when we only have status codes
-                                    predicate = responseCode -> statusCodes.contains(responseCode);
-                                } else if (statusCodes.isEmpty()) {
-                                    // We only have a predicate
-                                    predicate = statusCodePredicate;
-                                } else {
-                                    // We have both predicate and status code
-                                    predicate =
-                                        statusCodePredicate.or(responseCode -> statusCodes.contains(responseCode));
-                                }
-                                if (!predicate.test(connection.getResponseCode())) {
-                                    throw new RuntimeException(
-                                        String.format("HTTP response code was: %s", connection.getResponseCode())
-                                    );
-                                }
-
-                                if (responsePredicate != null) {
-                                    String responseBody = getResponseBody(connection);
-
-                                    log.trace("Get response {}", responseBody);
-
-                                    if (!responsePredicate.test(responseBody)) {
-                                        throw new RuntimeException(
-                                            String.format("Response: %s did not match predicate", responseBody)
-                                        );
-                                    }
-                                }
-                            } catch (IOException e) {
-                                throw new RuntimeException(e);
-                            }
-                        });
-                    return true;
+            final HttpURLConnection connection = openConnection(uri);
+            connection.setReadTimeout(Math.toIntExact(readTimeout.toMillis()));
+
+            // authenticate
+            if (!Strings.isNullOrEmpty(username)) {
+                connection.setRequestProperty(HEADER_AUTHORIZATION, buildAuthString(username, password));
+                connection.setUseCaches(false);
+            }
+
+            // Add user configured headers
+            this.headers.forEach(connection::setRequestProperty);
+            connection.setRequestMethod(method);
+            connection.connect();
+
+            log.trace("Get response code {}", connection.getResponseCode());
+
+            // Choose the statusCodePredicate strategy depending on what we defined.
+            Predicate<Integer> predicate;
+            if (statusCodes.isEmpty() && statusCodePredicate == null) {
+                // We have no status code and no predicate so we expect a 200 OK response code
+                predicate = responseCode -> HttpURLConnection.HTTP_OK == responseCode;
+            } else if (!statusCodes.isEmpty() && statusCodePredicate == null) {
+                // We use the default status predicate checker when we only have status codes
+                predicate = responseCode -> statusCodes.contains(responseCode);
+            } else if (statusCodes.isEmpty()) {
+                // We only have a predicate
+                predicate = statusCodePredicate;
+            } else {
+                // We have both predicate and status code
+                predicate = statusCodePredicate.or(responseCode -> statusCodes.contains(responseCode));
+            }
+            if (!predicate.test(connection.getResponseCode())) {
+                discardResponseBody(connection);
+                throw new RuntimeException(String.format("HTTP response code was: %s", connection.getResponseCode()));
+            }
+
+            if (responsePredicate == null) {
+                discardResponseBody(connection);
+            } else {
+                String responseBody = getResponseBody(connection);
+
+                log.trace("Get response {}", responseBody);
+
+                if (!responsePredicate.test(responseBody)) {
+                    throw new RuntimeException(String.format("Response: %s did not match predicate", responseBody));
                 }
-            );
-        } catch (TimeoutException e) {
-            throw new ContainerLaunchException(
-                String.format(
-                    "Timed out waiting for URL to be accessible (%s should return HTTP %s)",
-                    uri,
-                    statusCodes.isEmpty() ? HttpURLConnection.HTTP_OK : statusCodes
-                ),
-                e
-            );
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
         }
     }
 
@@ -331,43 +395,7 @@ public class HttpWaitStrategy extends AbstractWaitStrategy {
         if (tlsEnabled) {
             final HttpsURLConnection connection = (HttpsURLConnection) new URL(uri).openConnection();
             if (allowInsecure) {
-                // Create a trust manager that does not validate certificate chains
-                // and trust all certificates
-                final TrustManager[] trustAllCerts = new TrustManager[] {
-                    new X509ExtendedTrustManager() {
-                        @Override
-                        public X509Certificate[] getAcceptedIssuers() {
-                            return new X509Certificate[0];
-                        }
-
-                        @Override
-                        public void checkClientTrusted(final X509Certificate[] certs, final String authType) {}
-
-                        @Override
-                        public void checkServerTrusted(final X509Certificate[] certs, final String authType) {}
-
-                        @Override
-                        public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) {}
-
-                        @Override
-                        public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) {}
-
-                        @Override
-                        public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {}
-
-                        @Override
-                        public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {}
-                    },
-                };
-
-                try {
-                    // Create custom SSL context and set the "trust all certificates" trust manager
-                    final SSLContext sc = SSLContext.getInstance("SSL");
-                    sc.init(new KeyManager[0], trustAllCerts, new SecureRandom());
-                    connection.setSSLSocketFactory(sc.getSocketFactory());
-                } catch (final NoSuchAlgorithmException | KeyManagementException ex) {
-                    throw new IOException("Unable to create custom SSL factory instance", ex);
-                }
+                connection.setSSLSocketFactory(getInsecureSocketFactory());
             }
 
             return connection;
@@ -376,13 +404,57 @@ public class HttpWaitStrategy extends AbstractWaitStrategy {
         }
     }
 
+    synchronized SSLSocketFactory getInsecureSocketFactory() throws IOException {
+        if (insecureSocketFactory == null) {
+            // Create a trust manager that does not validate certificate chains
+            // and trust all certificates
+            final TrustManager[] trustAllCerts = new TrustManager[] {
+                new X509ExtendedTrustManager() {
+                    @Override
+                    public X509Certificate[] getAcceptedIssuers() {
+                        return new X509Certificate[0];
+                    }
+
+                    @Override
+                    public void checkClientTrusted(final X509Certificate[] certs, final String authType) {}
+
+                    @Override
+                    public void checkServerTrusted(final X509Certificate[] certs, final String authType) {}
+
+                    @Override
+                    public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) {}
+
+                    @Override
+                    public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) {}
+
+                    @Override
+                    public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {}
+
+                    @Override
+                    public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {}
+                },
+            };
+
+            try {
+                // Create custom SSL context and set the "trust all certificates" trust manager
+                final SSLContext sc = SSLContext.getInstance("SSL");
+                sc.init(new KeyManager[0], trustAllCerts, new SecureRandom());
+                insecureSocketFactory = sc.getSocketFactory();
+            } catch (final NoSuchAlgorithmException | KeyManagementException ex) {
+                throw new IOException("Unable to create custom SSL factory instance", ex);
+            }
+        }
+        return insecureSocketFactory;
+    }
+
     /**
      * Build the URI on which to check if the container is ready.
      *
      * @param livenessCheckPort the liveness port
+     * @param path the path to check
      * @return the liveness URI
      */
-    private URI buildLivenessUri(int livenessCheckPort) {
+    private URI buildLivenessUri(int livenessCheckPort, String path) {
         final String scheme = (tlsEnabled ? "https" : "http") + "://";
         final String host = waitStrategyTarget.getHost();
 
@@ -405,6 +477,23 @@ public class HttpWaitStrategy extends AbstractWaitStrategy {
         return AUTH_BASIC + BaseEncoding.base64().encode((username + ":" + password).getBytes());
     }
 
+    /**
+     * Reads the response to the end, which allows the underlying connection to be kept alive and reused.
+     */
+    private void discardResponseBody(HttpURLConnection connection) {
+        try (
+            InputStream inputStream = connection.getResponseCode() < 400
+                ? connection.getInputStream()
+                : connection.getErrorStream()
+        ) {
+            if (inputStream != null) {
+                ByteStreams.exhaust(inputStream);
+            }
+        } catch (IOException e) {
+            log.trace("Could not read response body", e);
+        }
+    }
+
     private String getResponseBody(HttpURLConnection connection) throws IOException {
         BufferedReader reader;
         if (200 <= connection.getResponseCode() && connection.getResponseCode() <= 299) {
@@ -420,4 +509,74 @@ public class HttpWaitStrategy extends AbstractWaitStrategy {
         }
         return builder.toString();
     }
+
+    /**
+     * The probes of one wait. Each round probes the URLs that are not ready yet concurrently on the wait strategy
+     * executor. The next round is scheduled on a timer that all HTTP waits share, so no thread sleeps between rounds.
+     */
+    private final class Probing {
+
+        private final Set<URI> pending = ConcurrentHashMap.newKeySet();
+
+        private final CompletableFuture<Void> ready = new CompletableFuture<>();
+
+        private volatile Throwable lastFailure;
+
+        private volatile ScheduledFuture<?> nextRound;
+
+        Probing(List<URI> uris) {
+            pending.addAll(uris);
+        }
+
+        void start() {
+            round();
+        }
+
+        void stop() {
+            ready.cancel(false);
+            ScheduledFuture<?> next = nextRound;
+            if (next != null) {
+                next.cancel(false);
+            }
+        }
+
+        private void round() {
+            if (ready.isDone()) {
+                return;
+            }
+
+            CompletableFuture<?>[] probes = pending
+                .stream()
+                .map(uri -> CompletableFuture.runAsync(() -> probeUntilReady(uri), EXECUTOR))
+                .toArray(CompletableFuture[]::new);
+
+            CompletableFuture
+                .allOf(probes)
+                .whenComplete((__, e) -> {
+                    if (pending.isEmpty()) {
+                        ready.complete(null);
+                    } else if (!ready.isDone()) {
+                        // HTTP probes do not call Docker, so only an explicitly set rate limiter spaces them further
+                        Duration delay = isRateLimiterSet()
+                            ? Duration.ZERO
+                            : getPollSchedule().nextDelay(PROBE_INTERVAL);
+                        nextRound = TIMER.schedule(this::round, delay.toMillis(), TimeUnit.MILLISECONDS);
+                    }
+                });
+        }
+
+        private void probeUntilReady(URI uri) {
+            try {
+                if (isRateLimiterSet()) {
+                    getRateLimiter().doWhenReady(() -> probe(uri.toString()));
+                } else {
+                    probe(uri.toString());
+                }
+                pending.remove(uri);
+            } catch (Throwable e) {
+                log.trace("{} is not ready yet", uri, e);
+                lastFailure = e;
+            }
+        }
+    }
 }
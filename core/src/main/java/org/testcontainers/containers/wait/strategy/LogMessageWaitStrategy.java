@@ -8,19 +8,27 @@ import org.testcontainers.containers.output.OutputFrame;
 import org.testcontainers.containers.output.WaitingConsumer;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 public class LogMessageWaitStrategy extends AbstractWaitStrategy {
 
     private String regEx;
 
+    private String substring;
+
     private int times = 1;
 
     @Override
     @SneakyThrows(IOException.class)
     protected void waitUntilReady() {
+        if (regEx == null && substring == null) {
+            throw new IllegalStateException("No log message to wait for, set one with withRegEx or withSubstring");
+        }
+
         WaitingConsumer waitingConsumer = new WaitingConsumer();
 
         LogContainerCmd cmd = waitStrategyTarget
@@ -37,20 +45,41 @@ public class LogMessageWaitStrategy extends AbstractWaitStrategy {
 
             cmd.exec(callback);
 
-            Predicate<OutputFrame> waitPredicate = outputFrame -> {
-                // (?s) enables line terminator matching (equivalent to Pattern.DOTALL)
-                return outputFrame.getUtf8String().matches("(?s)" + regEx);
-            };
+            Predicate<OutputFrame> waitPredicate = substring != null ? containing(substring) : matching(regEx);
             try {
                 waitingConsumer.waitUntil(waitPredicate, startupTimeout.getSeconds(), TimeUnit.SECONDS, times);
             } catch (TimeoutException e) {
-                throw new ContainerLaunchException("Timed out waiting for log output matching '" + regEx + "'");
+                throw new ContainerLaunchException(
+                    substring != null
+                        ? "Timed out waiting for log output containing '" + substring + "'"
+                        : "Timed out waiting for log output matching '" + regEx + "'"
+                );
             }
         }
     }
 
+    /**
+     * Wait for a log line that matches the given regular expression as a whole.
+     *
+     * @param regEx the regular expression, compiled with {@link Pattern#DOTALL} so that it can match line terminators
+     * @return this
+     */
     public LogMessageWaitStrategy withRegEx(String regEx) {
         this.regEx = regEx;
+        this.substring = null;
+        return this;
+    }
+
+    /**
+     * Wait for a log line that contains the given text. This avoids regular expression matching altogether
+     * and is the cheapest option for images that log a lot during startup.
+     *
+     * @param substring the literal text to look for
+     * @return this
+     */
+    public LogMessageWaitStrategy withSubstring(String substring) {
+        this.substring = substring;
+        this.regEx = null;
         return this;
     }
 
@@ -58,4 +87,33 @@ public class LogMessageWaitStrategy extends AbstractWaitStrategy {
         this.times = times;
         return this;
     }
+
+    private static Predicate<OutputFrame> matching(String regEx) {
+        // compile once rather than for every frame, DOTALL enables line terminator matching
+        Pattern pattern = Pattern.compile(regEx, Pattern.DOTALL);
+        return outputFrame -> pattern.matcher(outputFrame.getUtf8String()).matches();
+    }
+
+    private static Predicate<OutputFrame> containing(String substring) {
+        // a UTF-8 encoded string contains the text if and only if its bytes contain the encoded text,
+        // so frames do not need to be decoded
+        byte[] needle = substring.getBytes(StandardCharsets.UTF_8);
+        return outputFrame -> {
+            byte[] bytes = outputFrame.getBytes();
+            return bytes != null && indexOf(bytes, needle) >= 0;
+        };
+    }
+
+    private static int indexOf(byte[] haystack, byte[] needle) {
+        for (int i = 0; i <= haystack.length - needle.length; i++) {
+            int j = 0;
+            while (j < needle.length && haystack[i + j] == needle[j]) {
+                j++;
+            }
+            if (j == needle.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
 }
@@ -68,6 +68,32 @@ public class Wait {
         return new LogMessageWaitStrategy().withRegEx(regex).withTimes(times);
     }
 
+    /**
+     * Convenience method to return a WaitStrategy for log messages containing the given text.
+     * Cheaper than {@link #forLogMessage(String, int)} as no regular expression needs to be evaluated.
+     *
+     * @param substring the text to check for
+     * @param times the number of times the text is expected
+     * @return LogMessageWaitStrategy
+     */
+    public static LogMessageWaitStrategy forLogMessageContaining(String substring, int times) {
+        return new LogMessageWaitStrategy().withSubstring(substring).withTimes(times);
+    }
+
+    /**
+     * Convenience method to return a WaitStrategy that is satisfied as soon as any of the given strategies is.
+     *
+     * @param strategies the strategies to run concurrently
+     * @return WaitAnyStrategy
+     */
+    public static WaitAnyStrategy forAny(WaitStrategy... strategies) {
+        WaitAnyStrategy waitAnyStrategy = new WaitAnyStrategy();
+        for (WaitStrategy strategy : strategies) {
+            waitAnyStrategy.withStrategy(strategy);
+        }
+        return waitAnyStrategy;
+    }
+
     /**
      * Convenience method to return a WaitStrategy leveraging Docker's built-in healthcheck.
      *
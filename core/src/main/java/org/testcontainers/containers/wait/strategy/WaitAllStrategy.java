@@ -38,6 +38,8 @@ public class WaitAllStrategy implements WaitStrategy {
 
     private Duration timeout = Duration.ofSeconds(30);
 
+    private boolean parallel = false;
+
     public WaitAllStrategy() {
         this(Mode.WITH_OUTER_TIMEOUT);
     }
@@ -62,6 +64,11 @@ public class WaitAllStrategy implements WaitStrategy {
     }
 
     private void waitUntilNestedStrategiesAreReady(WaitStrategyTarget waitStrategyTarget) {
+        if (parallel) {
+            ConcurrentWaits.waitUntilAllReady(strategies, waitStrategyTarget);
+            return;
+        }
+
         for (WaitStrategy strategy : strategies) {
             strategy.waitUntilReady(waitStrategyTarget);
         }
@@ -76,6 +83,18 @@ public class WaitAllStrategy implements WaitStrategy {
         return this;
     }
 
+    /**
+     * Run the nested strategies concurrently rather than one after the other, so that waiting takes as long as
+     * the slowest strategy instead of the sum of all of them. As soon as one strategy fails, the others are
+     * interrupted.
+     *
+     * @return this
+     */
+    public WaitAllStrategy inParallel() {
+        this.parallel = true;
+        return this;
+    }
+
     @Override
     public WaitAllStrategy withStartupTimeout(Duration startupTimeout) {
         if (mode == Mode.WITH_INDIVIDUAL_TIMEOUTS_ONLY) {
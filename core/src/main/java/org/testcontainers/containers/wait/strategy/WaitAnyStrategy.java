@@ -0,0 +1,44 @@
+package org.testcontainers.containers.wait.strategy;
+
+import org.rnorth.ducttape.timeouts.Timeouts;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs all nested strategies concurrently and considers the container ready as soon as any of them succeeds.
+ * The remaining strategies are interrupted. The strategy fails if all nested strategies fail, or when the
+ * timeout is reached.
+ */
+public class WaitAnyStrategy implements WaitStrategy {
+
+    private final List<WaitStrategy> strategies = new ArrayList<>();
+
+    private Duration timeout = Duration.ofSeconds(30);
+
+    @Override
+    public void waitUntilReady(WaitStrategyTarget waitStrategyTarget) {
+        Timeouts.doWithTimeout(
+            (int) timeout.toMillis(),
+            TimeUnit.MILLISECONDS,
+            () -> {
+                ConcurrentWaits.waitUntilAnyReady(strategies, waitStrategyTarget);
+            }
+        );
+    }
+
+    public WaitAnyStrategy withStrategy(WaitStrategy strategy) {
+        strategy.withStartupTimeout(this.timeout);
+        this.strategies.add(strategy);
+        return this;
+    }
+
+    @Override
+    public WaitAnyStrategy withStartupTimeout(Duration startupTimeout) {
+        this.timeout = startupTimeout;
+        strategies.forEach(it -> it.withStartupTimeout(startupTimeout));
+        return this;
+    }
+}
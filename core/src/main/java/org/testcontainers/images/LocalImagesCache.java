@@ -3,20 +3,27 @@ package org.testcontainers.images;
 import com.github.dockerjava.api.DockerClient;
 import com.github.dockerjava.api.command.InspectImageResponse;
 import com.github.dockerjava.api.exception.NotFoundException;
-import com.github.dockerjava.api.model.Image;
 import com.google.common.annotations.VisibleForTesting;
 import lombok.extern.slf4j.Slf4j;
 import org.testcontainers.DockerClientFactory;
 import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.TestcontainersConfiguration;
 
-import java.util.List;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Instant;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
+/**
+ * Caches {@link ImageData} of local images, so that pull policies do not need to query the Docker daemon for every
+ * container.
+ * <p>
+ * Images are looked up individually with {@code inspectImageCmd} when first needed. If enabled, the results are
+ * shared with other JVMs through a {@link PersistentImageCache} file per Docker daemon in the temporary directory.
+ */
 @Slf4j
 enum LocalImagesCache {
     INSTANCE;
@@ -27,65 +34,82 @@ enum LocalImagesCache {
     @VisibleForTesting
     final Map<DockerImageName, ImageData> cache = new ConcurrentHashMap<>();
 
+    private PersistentImageCache persistentCache;
+
     public ImageData get(DockerImageName imageName) {
         maybeInitCache(DockerClientFactory.instance().client());
         return cache.get(imageName);
     }
 
     public Optional<ImageData> refreshCache(DockerImageName imageName) {
-        DockerClient dockerClient = DockerClientFactory.instance().client();
-        if (!maybeInitCache(dockerClient)) {
-            // Cache may be stale, trying inspectImageCmd...
-
-            InspectImageResponse response = null;
-            try {
-                response = dockerClient.inspectImageCmd(imageName.asCanonicalNameString()).exec();
-            } catch (NotFoundException e) {
-                log.trace("Image {} not found", imageName, e);
-            }
-            if (response != null) {
-                ImageData imageData = ImageData.from(response);
-                cache.put(imageName, imageData);
-                return Optional.of(imageData);
-            } else {
-                cache.remove(imageName);
-                return Optional.empty();
-            }
+        return refreshCache(DockerClientFactory.instance().client(), imageName);
+    }
+
+    /**
+     * Inspects the image with the given client, e.g. the one that has just pulled the image.
+     */
+    public Optional<ImageData> refreshCache(DockerClient dockerClient, DockerImageName imageName) {
+        maybeInitCache(dockerClient);
+
+        InspectImageResponse response = null;
+        try {
+            response = dockerClient.inspectImageCmd(imageName.asCanonicalNameString()).exec();
+        } catch (NotFoundException e) {
+            log.trace("Image {} not found", imageName, e);
         }
 
-        return Optional.ofNullable(cache.get(imageName));
+        if (response != null) {
+            ImageData imageData = ImageData.from(response);
+            cache.put(imageName, imageData);
+            persist(imageName, imageData, response.getId());
+            return Optional.of(imageData);
+        } else {
+            cache.remove(imageName);
+            persist(imageName, null, null);
+            return Optional.empty();
+        }
     }
 
-    private synchronized boolean maybeInitCache(DockerClient dockerClient) {
+    private synchronized void maybeInitCache(DockerClient dockerClient) {
         if (!initialized.compareAndSet(false, true)) {
-            return false;
+            return;
         }
 
-        if (Boolean.parseBoolean(System.getProperty("useFilter"))) {
-            return false;
+        if (
+            Boolean.parseBoolean(System.getProperty("useFilter")) ||
+            !TestcontainersConfiguration.getInstance().isPersistentImageCacheEnabled()
+        ) {
+            return;
         }
 
-        populateFromList(dockerClient.listImagesCmd().exec());
-
-        return true;
+        try {
+            String daemonId = DockerClientFactory.instance().getInfo().getId();
+            persistentCache =
+                new PersistentImageCache(
+                    Paths.get(
+                        System.getProperty("java.io.tmpdir"),
+                        "testcontainers-images-" +
+                        String.valueOf(daemonId).replaceAll("[^A-Za-z0-9-]", "_") +
+                        ".properties"
+                    )
+                );
+            cache.putAll(persistentCache.load(dockerClient, Instant.now()));
+        } catch (Exception e) {
+            log.debug("Could not use the persistent image cache, images will be inspected individually", e);
+            persistentCache = null;
+            cache.clear();
+        }
     }
 
-    private void populateFromList(List<Image> images) {
-        for (Image image : images) {
-            String[] repoTags = image.getRepoTags();
-            if (repoTags == null) {
-                log.debug("repoTags is null, skipping image: {}", image);
-                continue;
-            }
-
-            cache.putAll(
-                Stream
-                    .of(repoTags)
-                    // Protection against some edge case where local image repository tags end up with duplicates
-                    // making toMap crash at merge time.
-                    .distinct()
-                    .collect(Collectors.toMap(DockerImageName::new, it -> ImageData.from(image)))
-            );
+    private synchronized void persist(DockerImageName imageName, ImageData imageData, String imageId) {
+        if (persistentCache == null) {
+            return;
+        }
+
+        try {
+            persistentCache.store(imageName, imageData, imageId);
+        } catch (IOException e) {
+            log.debug("Could not update the persistent image cache", e);
         }
     }
 }
@@ -0,0 +1,241 @@
+package org.testcontainers.images;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.api.model.EventType;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * The file through which {@link LocalImagesCache} shares {@link ImageData} with other JVMs.
+ * <p>
+ * Every access holds an exclusive lock on the file. Before the entries are trusted, those affected by image events
+ * (pulls, tags, removals) that happened since the file was last validated are dropped.
+ * <p>
+ * The daemon only keeps a limited number of recent events, and none from before it was restarted. When the events
+ * may be incomplete, i.e. the daemon returns as many events as it keeps, or the file was last validated so long ago
+ * that the daemon may have been restarted since, every entry is checked by inspecting its image instead.
+ */
+@Slf4j
+class PersistentImageCache {
+
+    private static final String LAST_VALIDATED_KEY = "@lastValidated";
+
+    // margin for clock differences between this host and the Docker daemon
+    private static final Duration EVENTS_MARGIN = Duration.ofMinutes(1);
+
+    private static final long EVENTS_TIMEOUT_SECONDS = 10;
+
+    // the number of events the Docker daemon keeps in memory
+    private static final int EVENTS_BUFFER_SIZE = 256;
+
+    // the Docker API does not tell when the daemon was started, so events are only trusted for a while
+    private static final Duration EVENTS_MAX_AGE = Duration.ofMinutes(30);
+
+    private final Path file;
+
+    PersistentImageCache(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Drops the entries affected by image events since the last validation, and marks the file as validated.
+     *
+     * @param dockerClient the client to read image events with
+     * @param now the time of the validation
+     * @return the remaining entries
+     */
+    Map<DockerImageName, ImageData> load(DockerClient dockerClient, Instant now) throws IOException {
+        Map<DockerImageName, ImageData> entries = new HashMap<>();
+        withLockedFile(properties -> {
+            String lastValidated = properties.getProperty(LAST_VALIDATED_KEY);
+            if (lastValidated != null) {
+                validate(dockerClient, properties, Instant.ofEpochSecond(Long.parseLong(lastValidated)), now);
+            }
+            properties.setProperty(LAST_VALIDATED_KEY, Long.toString(now.getEpochSecond()));
+
+            properties
+                .stringPropertyNames()
+                .forEach(name -> {
+                    if (LAST_VALIDATED_KEY.equals(name)) {
+                        return;
+                    }
+                    String createdAt = properties.getProperty(name).split(",", 2)[0];
+                    entries.put(
+                        DockerImageName.parse(name),
+                        ImageData.builder().createdAt(Instant.ofEpochMilli(Long.parseLong(createdAt))).build()
+                    );
+                });
+            return true;
+        });
+        return entries;
+    }
+
+    /**
+     * @param imageName the name of the image
+     * @param imageData the data of the image, or {@code null} to remove the entry
+     * @param imageId the id of the image, if {@code imageData} is given
+     */
+    void store(DockerImageName imageName, ImageData imageData, String imageId) throws IOException {
+        String name = imageName.asCanonicalNameString();
+        withLockedFile(properties -> {
+            if (imageData == null) {
+                return properties.remove(name) != null;
+            }
+            properties.setProperty(name, imageData.getCreatedAt().toEpochMilli() + "," + imageId);
+            return true;
+        });
+    }
+
+    /**
+     * Removes entries of images that have changed between {@code since} and {@code until}.
+     */
+    private static void validate(DockerClient dockerClient, Properties properties, Instant since, Instant until)
+        throws InterruptedException {
+        if (since.plus(EVENTS_MAX_AGE).isBefore(until)) {
+            log.debug("The persistent image cache was last validated at {}, inspecting all images", since);
+            inspectAll(dockerClient, properties);
+            return;
+        }
+
+        List<Event> events = new ArrayList<>();
+        boolean completed = dockerClient
+            .eventsCmd()
+            .withEventTypeFilter(EventType.IMAGE)
+            .withSince(Long.toString(since.minus(EVENTS_MARGIN).getEpochSecond()))
+            .withUntil(Long.toString(until.getEpochSecond()))
+            .exec(
+                new ResultCallback.Adapter<Event>() {
+                    @Override
+                    public void onNext(Event event) {
+                        events.add(event);
+                    }
+                }
+            )
+            .awaitCompletion(EVENTS_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        if (!completed) {
+            log.debug("Timed out reading image events, discarding the persistent image cache");
+            properties.clear();
+            return;
+        }
+
+        if (events.size() >= EVENTS_BUFFER_SIZE) {
+            log.debug("Image events since {} may be incomplete, inspecting all images", since);
+            inspectAll(dockerClient, properties);
+            return;
+        }
+
+        Set<String> affected = new HashSet<>();
+        for (Event event : events) {
+            if (event.getActor() != null) {
+                affected.add(event.getActor().getId());
+                if (event.getActor().getAttributes() != null) {
+                    affected.add(event.getActor().getAttributes().get("name"));
+                }
+            }
+            affected.add(event.getId());
+        }
+
+        forEachEntry(
+            properties,
+            (name, imageId) -> {
+                if (affected.contains(name) || affected.contains(imageId)) {
+                    properties.remove(name);
+                }
+            }
+        );
+    }
+
+    /**
+     * Removes entries whose image is gone or has another id by now.
+     */
+    private static void inspectAll(DockerClient dockerClient, Properties properties) {
+        forEachEntry(
+            properties,
+            (name, imageId) -> {
+                String currentImageId = null;
+                try {
+                    currentImageId = dockerClient.inspectImageCmd(name).exec().getId();
+                } catch (NotFoundException e) {
+                    log.trace("Image {} not found", name, e);
+                }
+                if (!imageId.equals(currentImageId)) {
+                    properties.remove(name);
+                }
+            }
+        );
+    }
+
+    private static void forEachEntry(Properties properties, BiConsumer<String, String> action) {
+        properties
+            .stringPropertyNames()
+            .forEach(name -> {
+                if (LAST_VALIDATED_KEY.equals(name)) {
+                    return;
+                }
+                action.accept(name, properties.getProperty(name).split(",", 2)[1]);
+            });
+    }
+
+    /**
+     * Reads the file while holding an exclusive lock on it, and writes it back if {@code update} returns true.
+     */
+    private void withLockedFile(Update update) throws IOException {
+        try (
+            FileChannel channel = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+            );
+        ) {
+            FileLock lock = channel.lock();
+            try {
+                Properties properties = new Properties();
+                InputStream inputStream = Channels.newInputStream(channel);
+                properties.load(inputStream);
+
+                if (update.apply(properties)) {
+                    channel.truncate(0);
+                    channel.position(0);
+                    OutputStream outputStream = Channels.newOutputStream(channel);
+                    properties.store(outputStream, "Testcontainers local image cache");
+                    outputStream.flush();
+                }
+            } finally {
+                lock.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Update {
+        boolean apply(Properties properties) throws IOException, InterruptedException;
+    }
+}
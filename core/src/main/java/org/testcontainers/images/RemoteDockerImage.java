@@ -18,16 +18,25 @@ import org.awaitility.pollinterval.PollInterval;
 import org.slf4j.Logger;
 import org.testcontainers.DockerClientFactory;
 import org.testcontainers.containers.ContainerFetchException;
+import org.testcontainers.lifecycle.StartupPhase;
 import org.testcontainers.utility.DockerImageName;
 import org.testcontainers.utility.DockerLoggerFactory;
 import org.testcontainers.utility.ImageNameSubstitutor;
 import org.testcontainers.utility.LazyFuture;
 import org.testcontainers.utility.TestcontainersConfiguration;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicReference;
@@ -36,10 +45,14 @@ import java.util.concurrent.atomic.AtomicReference;
 @AllArgsConstructor(access = AccessLevel.PACKAGE)
 public class RemoteDockerImage extends LazyFuture<String> {
 
+    private static final ConcurrentHashMap<String, CompletableFuture<String>> PULLS_IN_FLIGHT = new ConcurrentHashMap<>();
+
     private static final Duration PULL_RETRY_TIME_LIMIT = Duration.ofSeconds(
         TestcontainersConfiguration.getInstance().getImagePullTimeout()
     );
 
+    private static final Duration LOCK_POLL_INTERVAL = Duration.ofMillis(100);
+
     @ToString.Exclude
     private Future<DockerImageName> imageNameFuture;
 
@@ -80,26 +93,124 @@ public class RemoteDockerImage extends LazyFuture<String> {
                 return imageName.asCanonicalNameString();
             }
 
-            // The image is not available locally - pull it
-            logger.info(
-                "Pulling docker image: {}. Please be patient; this may take some time but only needs to be done once.",
-                imageName
-            );
+            return pullOnce(imageName, logger);
+        } catch (DockerClientException e) {
+            throw new ContainerFetchException("Failed to get Docker client for " + imageName, e);
+        }
+    }
+
+    /**
+     * Pulls the image, unless a pull of the same image is already in progress in this JVM or, as far as
+     * a lock file in the temporary directory can tell, in another process on this host. In that case,
+     * the outcome of that pull is used instead.
+     */
+    @SneakyThrows(InterruptedException.class)
+    private String pullOnce(DockerImageName imageName, Logger logger) {
+        final String canonicalName = imageName.asCanonicalNameString();
+        final CompletableFuture<String> pull = new CompletableFuture<>();
+        final CompletableFuture<String> inFlight = PULLS_IN_FLIGHT.putIfAbsent(canonicalName, pull);
+        if (inFlight != null) {
+            logger.info("Waiting for a concurrent pull of docker image: {}", imageName);
+            try {
+                return inFlight.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new ContainerFetchException("Failed to pull image: " + imageName, e);
+            }
+        }
+
+        try {
+            final String result = pullWithHostLock(imageName, logger);
+            pull.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            pull.completeExceptionally(e);
+            throw e;
+        } finally {
+            PULLS_IN_FLIGHT.remove(canonicalName, pull);
+        }
+    }
+
+    private String pullWithHostLock(DockerImageName imageName, Logger logger) throws InterruptedException {
+        final String canonicalName = imageName.asCanonicalNameString();
+        final Path lockFile = Paths.get(
+            System.getProperty("java.io.tmpdir"),
+            "testcontainers-pull-" +
+            canonicalName.replaceAll("[^A-Za-z0-9.-]", "_") +
+            "-" +
+            Integer.toHexString(canonicalName.hashCode()) +
+            ".lock"
+        );
+
+        try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            FileLock lock = channel.tryLock();
+            if (lock == null) {
+                logger.info("Waiting for another process pulling docker image: {}", imageName);
+                // the other process may have crashed or hung, so do not wait longer than a pull may take
+                lock = lockUntil(channel, Instant.now().plus(PULL_RETRY_TIME_LIMIT));
+                if (lock == null) {
+                    logger.warn(
+                        "Timed out waiting for another process pulling docker image: {}, pulling it anyway",
+                        imageName
+                    );
+                    return pull(imageName, logger);
+                }
+
+                if (LocalImagesCache.INSTANCE.refreshCache(dockerClient, imageName).isPresent()) {
+                    lock.release();
+                    logger.info("Docker image {} was pulled by another process", imageName);
+                    return canonicalName;
+                }
+            }
 
-            final Instant startedAt = Instant.now();
-            final Instant lastRetryAllowed = Instant.now().plus(PULL_RETRY_TIME_LIMIT);
-            final AtomicReference<Exception> lastFailure = new AtomicReference<>();
-            final PullImageCmd pullImageCmd = dockerClient
-                .pullImageCmd(imageName.getUnversionedPart())
-                .withTag(imageName.getVersionPart());
-            final AtomicReference<String> dockerImageName = new AtomicReference<>();
+            try {
+                return pull(imageName, logger);
+            } finally {
+                lock.release();
+            }
+        } catch (IOException | OverlappingFileLockException e) {
+            logger.debug("Could not lock {}, pulling without coordination", lockFile, e);
+            return pull(imageName, logger);
+        }
+    }
+
+    /**
+     * @return the lock, or {@code null} if it could not be acquired before the deadline
+     */
+    private static FileLock lockUntil(FileChannel channel, Instant deadline) throws IOException, InterruptedException {
+        while (true) {
+            FileLock lock = channel.tryLock();
+            if (lock != null || Instant.now().isAfter(deadline)) {
+                return lock;
+            }
+            Thread.sleep(LOCK_POLL_INTERVAL.toMillis());
+        }
+    }
+
+    private String pull(DockerImageName imageName, Logger logger) throws InterruptedException {
+        // The image is not available locally - pull it
+        logger.info(
+            "Pulling docker image: {}. Please be patient; this may take some time but only needs to be done once.",
+            imageName
+        );
+
+        final Instant startedAt = Instant.now();
+        final Instant lastRetryAllowed = Instant.now().plus(PULL_RETRY_TIME_LIMIT);
+        final AtomicReference<Exception> lastFailure = new AtomicReference<>();
+        final PullImageCmd pullImageCmd = dockerClient
+            .pullImageCmd(imageName.getUnversionedPart())
+            .withTag(imageName.getVersionPart());
+        final AtomicReference<String> dockerImageName = new AtomicReference<>();
 
-            // The following poll interval in ms: 50, 100, 200, 400, 800....
-            // Results in ~70 requests in over 2 minutes
-            final PollInterval interval = IterativePollInterval
-                .iterative(duration -> duration.multipliedBy(2))
-                .startDuration(Duration.ofMillis(50));
+        // The following poll interval in ms: 50, 100, 200, 400, 800....
+        // Results in ~70 requests in over 2 minutes
+        final PollInterval interval = IterativePollInterval
+            .iterative(duration -> duration.multipliedBy(2))
+            .startDuration(Duration.ofMillis(50));
 
+        StartupPhase.PULL.run(() -> {
             Awaitility
                 .await()
                 .pollInSameThread()
@@ -107,26 +218,31 @@ public class RemoteDockerImage extends LazyFuture<String> {
                 .atMost(PULL_RETRY_TIME_LIMIT)
                 .pollInterval(interval)
                 .until(
-                    tryImagePullCommand(pullImageCmd, logger, dockerImageName, imageName, lastFailure, lastRetryAllowed)
+                    tryImagePullCommand(
+                        pullImageCmd,
+                        logger,
+                        dockerImageName,
+                        imageName,
+                        lastFailure,
+                        lastRetryAllowed
+                    )
                 );
+        });
 
-            if (dockerImageName.get() == null) {
-                final Exception lastException = lastFailure.get();
-                logger.error(
-                    "Failed to pull image: {}. Please check output of `docker pull {}`",
-                    imageName,
-                    imageName,
-                    lastException
-                );
-                throw new ContainerFetchException("Failed to pull image: " + imageName, lastException);
-            }
-
-            logger.info("Image {} pull took {}", dockerImageName.get(), Duration.between(startedAt, Instant.now()));
-            LocalImagesCache.INSTANCE.refreshCache(imageName);
-            return dockerImageName.get();
-        } catch (DockerClientException e) {
-            throw new ContainerFetchException("Failed to get Docker client for " + imageName, e);
+        if (dockerImageName.get() == null) {
+            final Exception lastException = lastFailure.get();
+            logger.error(
+                "Failed to pull image: {}. Please check output of `docker pull {}`",
+                imageName,
+                imageName,
+                lastException
+            );
+            throw new ContainerFetchException("Failed to pull image: " + imageName, lastException);
         }
+
+        logger.info("Image {} pull took {}", dockerImageName.get(), Duration.between(startedAt, Instant.now()));
+        LocalImagesCache.INSTANCE.refreshCache(dockerClient, imageName);
+        return dockerImageName.get();
     }
 
     private Callable<Boolean> tryImagePullCommand(
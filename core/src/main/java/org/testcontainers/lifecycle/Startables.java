@@ -1,6 +1,7 @@
 package org.testcontainers.lifecycle;
 
 import lombok.experimental.UtilityClass;
+import org.testcontainers.utility.TestcontainersThreadFactory;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -9,8 +10,6 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -18,16 +17,7 @@ import java.util.stream.StreamSupport;
 public class Startables {
 
     private static final Executor EXECUTOR = Executors.newCachedThreadPool(
-        new ThreadFactory() {
-            private final AtomicLong COUNTER = new AtomicLong(0);
-
-            @Override
-            public Thread newThread(Runnable r) {
-                Thread thread = new Thread(r, "testcontainers-lifecycle-" + COUNTER.getAndIncrement());
-                thread.setDaemon(true);
-                return thread;
-            }
-        }
+        TestcontainersThreadFactory.of("testcontainers-lifecycle-")
     );
 
     /**
@@ -102,7 +92,7 @@ public class Startables {
         return allOfFailfast(futures);
     }
 
-    private static <T> CompletableFuture<Void> allOfFailfast(CompletableFuture<?>[] futures) {
+    static CompletableFuture<Void> allOfFailfast(CompletableFuture<?>[] futures) {
         CompletableFuture<Void> result = CompletableFuture.allOf(futures);
         for (CompletableFuture<?> future : futures) {
             future.whenComplete((t, ex) -> {
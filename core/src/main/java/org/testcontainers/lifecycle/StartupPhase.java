@@ -0,0 +1,88 @@
+package org.testcontainers.lifecycle;
+
+import lombok.SneakyThrows;
+import org.testcontainers.UnstableAPI;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.util.concurrent.Semaphore;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Phases of container startup whose concurrency can be limited separately, so that starting many containers at
+ * once does not overload the Docker daemon. Limits apply to the whole JVM and are read from
+ * {@link TestcontainersConfiguration} on first use; by default every phase is unlimited.
+ */
+@UnstableAPI
+public enum StartupPhase {
+    /**
+     * Pulling images, limited by {@code startup.concurrency.pull}.
+     */
+    PULL(() -> TestcontainersConfiguration.getInstance().getStartupPullConcurrency()),
+
+    /**
+     * Creating and starting containers, limited by {@code startup.concurrency.create}.
+     */
+    CREATE(() -> TestcontainersConfiguration.getInstance().getStartupCreateConcurrency()),
+
+    /**
+     * Waiting for containers to become ready, limited by {@code startup.concurrency.wait}.
+     */
+    WAIT(() -> TestcontainersConfiguration.getInstance().getStartupWaitConcurrency());
+
+    private final IntSupplier configuredLimit;
+
+    private volatile Semaphore permits;
+
+    private volatile boolean initialized = false;
+
+    StartupPhase(IntSupplier configuredLimit) {
+        this.configuredLimit = configuredLimit;
+    }
+
+    /**
+     * Runs the given action once a permit for this phase is available.
+     *
+     * @param action the action to run
+     */
+    public void run(Runnable action) {
+        call(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs the given action once a permit for this phase is available.
+     *
+     * @param action the action to run
+     * @return the result of the action
+     */
+    @SneakyThrows(InterruptedException.class)
+    public <T> T call(Supplier<T> action) {
+        Semaphore semaphore = getPermits();
+        if (semaphore == null) {
+            return action.get();
+        }
+
+        semaphore.acquire();
+        try {
+            return action.get();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    private Semaphore getPermits() {
+        if (!initialized) {
+            synchronized (this) {
+                if (!initialized) {
+                    int limit = configuredLimit.getAsInt();
+                    permits = limit > 0 ? new Semaphore(limit, true) : null;
+                    initialized = true;
+                }
+            }
+        }
+        return permits;
+    }
+}
@@ -0,0 +1,181 @@
+package org.testcontainers.lifecycle;
+
+import com.google.common.base.Preconditions;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.UnstableAPI;
+import org.testcontainers.utility.TestcontainersThreadFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts a graph of {@link Startable}s like {@link Startables#deepStart(Collection)}, but with at most
+ * {@code maxConcurrentStarts} starts in flight at any time.
+ * <p>
+ * When more {@link Startable}s are ready to start than permitted, those at the head of the longest chain of
+ * dependents are started first, as they determine the total startup time. The time each {@link Startable} took to
+ * start is reported once all of them have started.
+ * <p>
+ * Individual startup phases (pulls, creates, waits) can additionally be limited with {@link StartupPhase}.
+ */
+@UnstableAPI
+@Slf4j
+public final class StartupScheduler {
+
+    private final int maxConcurrentStarts;
+
+    /**
+     * @param maxConcurrentStarts the maximum number of {@link Startable}s to start concurrently
+     */
+    public StartupScheduler(int maxConcurrentStarts) {
+        Preconditions.checkArgument(maxConcurrentStarts > 0, "maxConcurrentStarts must be greater than zero");
+        this.maxConcurrentStarts = maxConcurrentStarts;
+    }
+
+    /**
+     * Start every {@link Startable} and their transitive dependencies, respecting dependency order.
+     *
+     * @param startables the {@link Startable}s to start
+     * @return a {@link CompletableFuture} that resolves to the startup time of every {@link Startable},
+     * in the order in which they finished starting
+     */
+    public CompletableFuture<Map<Startable, Duration>> start(Collection<? extends Startable> startables) {
+        Set<Startable> nodes = new LinkedHashSet<>();
+        startables.forEach(it -> collect(it, nodes));
+
+        Map<Startable, Set<Startable>> dependents = new HashMap<>();
+        for (Startable node : nodes) {
+            for (Startable dependency : node.getDependencies()) {
+                dependents.computeIfAbsent(dependency, __ -> new HashSet<>()).add(node);
+            }
+        }
+
+        Map<Startable, Integer> chainLengths = new HashMap<>();
+        nodes.forEach(it -> chainLength(it, dependents, chainLengths));
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            maxConcurrentStarts,
+            maxConcurrentStarts,
+            1,
+            TimeUnit.MINUTES,
+            new PriorityBlockingQueue<>(),
+            TestcontainersThreadFactory.of("testcontainers-startup-")
+        );
+        executor.allowCoreThreadTimeOut(true);
+
+        Map<Startable, Duration> timings = Collections.synchronizedMap(new LinkedHashMap<>());
+        Map<Startable, CompletableFuture<Void>> futures = new HashMap<>();
+        nodes.forEach(it -> schedule(it, futures, chainLengths, timings, executor));
+
+        CompletableFuture<Map<Startable, Duration>> result = Startables
+            .allOfFailfast(futures.values().toArray(new CompletableFuture<?>[0]))
+            .thenApply(__ -> {
+                synchronized (timings) {
+                    return Collections.unmodifiableMap(new LinkedHashMap<>(timings));
+                }
+            });
+        result.whenComplete((__, ___) -> executor.shutdown());
+        return result;
+    }
+
+    private CompletableFuture<Void> schedule(
+        Startable startable,
+        Map<Startable, CompletableFuture<Void>> futures,
+        Map<Startable, Integer> chainLengths,
+        Map<Startable, Duration> timings,
+        ThreadPoolExecutor executor
+    ) {
+        CompletableFuture<Void> existing = futures.get(startable);
+        if (existing != null) {
+            return existing;
+        }
+
+        List<CompletableFuture<Void>> dependencies = new ArrayList<>();
+        for (Startable dependency : startable.getDependencies()) {
+            dependencies.add(schedule(dependency, futures, chainLengths, timings, executor));
+        }
+
+        int priority = chainLengths.get(startable);
+        Executor prioritized = task -> executor.execute(new PrioritizedTask(priority, task));
+
+        CompletableFuture<Void> future = Startables
+            .allOfFailfast(dependencies.toArray(new CompletableFuture<?>[0]))
+            .thenRunAsync(
+                () -> {
+                    long startedAt = System.nanoTime();
+                    startable.start();
+                    Duration duration = Duration.ofNanos(System.nanoTime() - startedAt);
+                    log.debug("Started {} in {}", startable, duration);
+                    timings.put(startable, duration);
+                },
+                prioritized
+            );
+        futures.put(startable, future);
+        return future;
+    }
+
+    private static void collect(Startable startable, Set<Startable> nodes) {
+        if (nodes.add(startable)) {
+            startable.getDependencies().forEach(it -> collect(it, nodes));
+        }
+    }
+
+    /**
+     * @return the number of {@link Startable}s in the longest chain that starts with the given one and continues
+     * through its dependents
+     */
+    private static int chainLength(
+        Startable startable,
+        Map<Startable, Set<Startable>> dependents,
+        Map<Startable, Integer> chainLengths
+    ) {
+        Integer known = chainLengths.get(startable);
+        if (known != null) {
+            return known;
+        }
+
+        int length = 1;
+        for (Startable dependent : dependents.getOrDefault(startable, Collections.emptySet())) {
+            length = Math.max(length, 1 + chainLength(dependent, dependents, chainLengths));
+        }
+        chainLengths.put(startable, length);
+        return length;
+    }
+
+    private static final class PrioritizedTask implements Runnable, Comparable<PrioritizedTask> {
+
+        private final int priority;
+
+        private final Runnable delegate;
+
+        PrioritizedTask(int priority, Runnable delegate) {
+            this.priority = priority;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void run() {
+            delegate.run();
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask other) {
+            // longest chains first
+            return Integer.compare(other.priority, priority);
+        }
+    }
+}
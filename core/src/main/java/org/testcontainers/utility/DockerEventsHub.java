@@ -0,0 +1,164 @@
+package org.testcontainers.utility;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.api.model.EventType;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.UnstableAPI;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A single, lazily established subscription to the container events of the Docker daemon, shared by everything in
+ * this JVM that waits for a container state change.
+ * <p>
+ * Waiting code still polls the container state, but uses {@link #await(String, Predicate, Duration)} to sleep between
+ * polls, which returns as soon as a relevant event arrives. If the event stream is not available, {@code await}
+ * simply sleeps for the given duration, so callers behave as plain polling loops.
+ */
+@UnstableAPI
+@Slf4j
+public final class DockerEventsHub {
+
+    private static final DockerEventsHub INSTANCE = new DockerEventsHub(() -> DockerClientFactory.instance().client());
+
+    private static final long RESUBSCRIBE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    public static DockerEventsHub instance() {
+        return INSTANCE;
+    }
+
+    private final Supplier<DockerClient> dockerClient;
+
+    private final Map<String, Set<Listener>> listeners = new ConcurrentHashMap<>();
+
+    // guarded by this
+    private ResultCallback.Adapter<Event> subscription;
+
+    // guarded by this
+    private long lastSubscriptionAttempt = 0;
+
+    DockerEventsHub(Supplier<DockerClient> dockerClient) {
+        this.dockerClient = dockerClient;
+    }
+
+    /**
+     * Waits until an event of the given container matches {@code action}, or until the timeout elapses.
+     *
+     * @param containerId the ID of the container
+     * @param action      tests the event action, e.g. {@code start}, {@code die} or {@code health_status: healthy}
+     * @param timeout     the maximum time to wait
+     * @return whether a matching event was received
+     */
+    public boolean await(String containerId, Predicate<String> action, Duration timeout) throws InterruptedException {
+        Listener listener = new Listener(action);
+        listeners.compute(
+            containerId,
+            (__, it) -> {
+                Set<Listener> containerListeners = it != null ? it : ConcurrentHashMap.newKeySet();
+                containerListeners.add(listener);
+                return containerListeners;
+            }
+        );
+        try {
+            ensureSubscribed();
+            return listener.latch.await(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } finally {
+            listeners.computeIfPresent(
+                containerId,
+                (__, it) -> {
+                    it.remove(listener);
+                    return it.isEmpty() ? null : it;
+                }
+            );
+        }
+    }
+
+    private synchronized void ensureSubscribed() {
+        if (subscription != null) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (lastSubscriptionAttempt != 0 && now - lastSubscriptionAttempt < RESUBSCRIBE_INTERVAL_NANOS) {
+            return;
+        }
+        lastSubscriptionAttempt = now;
+
+        try {
+            subscription =
+                dockerClient
+                    .get()
+                    .eventsCmd()
+                    .withEventTypeFilter(EventType.CONTAINER)
+                    .exec(
+                        new ResultCallback.Adapter<Event>() {
+                            @Override
+                            public void onNext(Event event) {
+                                dispatch(event);
+                            }
+
+                            @Override
+                            public void onError(Throwable throwable) {
+                                log.debug("Docker events stream failed, waiting code falls back to polling", throwable);
+                                unsubscribe(this);
+                                super.onError(throwable);
+                            }
+
+                            @Override
+                            public void onComplete() {
+                                unsubscribe(this);
+                                super.onComplete();
+                            }
+                        }
+                    );
+        } catch (Exception e) {
+            log.debug("Could not subscribe to Docker events, waiting code falls back to polling", e);
+        }
+    }
+
+    private synchronized void unsubscribe(ResultCallback.Adapter<Event> callback) {
+        if (subscription == callback) {
+            subscription = null;
+        }
+    }
+
+    private void dispatch(Event event) {
+        String containerId = event.getActor() != null ? event.getActor().getId() : event.getId();
+        String action = event.getAction() != null ? event.getAction() : event.getStatus();
+        if (containerId == null || action == null) {
+            return;
+        }
+
+        Set<Listener> containerListeners = listeners.get(containerId);
+        if (containerListeners != null) {
+            containerListeners.forEach(it -> it.offer(action));
+        }
+    }
+
+    private static final class Listener {
+
+        private final Predicate<String> action;
+
+        private final CountDownLatch latch = new CountDownLatch(1);
+
+        Listener(Predicate<String> action) {
+            this.action = action;
+        }
+
+        void offer(String eventAction) {
+            if (action.test(eventAction)) {
+                latch.countDown();
+            }
+        }
+    }
+}
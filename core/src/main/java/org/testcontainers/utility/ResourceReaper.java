@@ -206,17 +206,12 @@ public class ResourceReaper {
             }
         }
 
-        try {
-            dockerClient.inspectContainerCmd(containerId).exec();
-        } catch (Exception e) {
-            LOGGER.trace("Was going to remove container but it apparently no longer exists: {}", containerId);
-            return;
-        }
-
         try {
             LOGGER.trace("Removing container: {}", containerId);
             dockerClient.removeContainerCmd(containerId).withRemoveVolumes(true).withForce(true).exec();
             LOGGER.debug("Removed container and associated volume(s): {}", imageName);
+        } catch (NotFoundException e) {
+            LOGGER.trace("Was going to remove container but it apparently no longer exists: {}", containerId);
         } catch (Exception e) {
             LOGGER.trace(
                 "Error encountered shutting down container (ID: {}) - it may not have been stopped, or may already be stopped. Root cause: {}",
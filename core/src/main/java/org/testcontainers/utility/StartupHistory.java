@@ -0,0 +1,181 @@
+package org.testcontainers.utility;
+
+import com.google.common.annotations.VisibleForTesting;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.UnstableAPI;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers how long targets took to become ready, per image and readiness probe, so that wait strategies can
+ * schedule their probes around the expected ready time (see {@link StartupPollSchedule}).
+ * <p>
+ * Readiness times are kept as an exponentially weighted average in a file in the temporary directory, which is
+ * shared by all JVMs on the host. Set {@code startup.history.enable} to {@code true} to enable it, otherwise probes
+ * are spaced by fixed intervals.
+ */
+@UnstableAPI
+@Slf4j
+public final class StartupHistory {
+
+    // weight of a new sample in the average
+    private static final double SAMPLE_WEIGHT = 0.3;
+
+    private static final StartupHistory INSTANCE = new StartupHistory(
+        TestcontainersConfiguration.getInstance().isStartupHistoryEnabled(),
+        Paths.get(System.getProperty("java.io.tmpdir"), "testcontainers-startup-history.properties")
+    );
+
+    public static StartupHistory getInstance() {
+        return INSTANCE;
+    }
+
+    private final Map<String, Long> readyTimes = new ConcurrentHashMap<>();
+
+    private final boolean enabled;
+
+    private Path historyFile;
+
+    private boolean loaded = false;
+
+    /**
+     * @param enabled whether readiness times are recorded and used at all
+     * @param historyFile the file to share readiness times through, or null to keep them in memory
+     */
+    @VisibleForTesting
+    StartupHistory(boolean enabled, Path historyFile) {
+        this.enabled = enabled;
+        this.historyFile = historyFile;
+    }
+
+    /**
+     * @param image the image of the target, may be null if unknown
+     * @param probe the kind of readiness probe, e.g. the wait strategy class name
+     * @return a poll schedule for one readiness wait, starting now
+     */
+    public StartupPollSchedule schedule(String image, String probe) {
+        if (!enabled || image == null) {
+            return new StartupPollSchedule(null);
+        }
+
+        maybeLoad();
+        Long expected = readyTimes.get(key(image, probe));
+        return new StartupPollSchedule(expected != null ? Duration.ofMillis(expected) : null);
+    }
+
+    /**
+     * Adds a readiness time to the history.
+     *
+     * @param image the image of the target, may be null if unknown
+     * @param probe the kind of readiness probe, e.g. the wait strategy class name
+     * @param readyTime how long the target took to become ready
+     */
+    public void record(String image, String probe, Duration readyTime) {
+        if (!enabled || image == null) {
+            return;
+        }
+
+        maybeLoad();
+        String key = key(image, probe);
+        long sample = readyTime.toMillis();
+        readyTimes.merge(key, sample, StartupHistory::average);
+        persist(key, sample);
+    }
+
+    private static String key(String image, String probe) {
+        return image + "|" + probe;
+    }
+
+    private static long average(long current, long sample) {
+        return Math.round(current * (1 - SAMPLE_WEIGHT) + sample * SAMPLE_WEIGHT);
+    }
+
+    private synchronized void maybeLoad() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+
+        if (historyFile == null) {
+            return;
+        }
+
+        try {
+            withLockedHistoryFile(properties -> {
+                properties
+                    .stringPropertyNames()
+                    .forEach(key -> readyTimes.put(key, Long.parseLong(properties.getProperty(key))));
+                return false;
+            });
+        } catch (Exception e) {
+            log.debug("Could not read the startup history, probes will use fixed intervals", e);
+            historyFile = null;
+        }
+    }
+
+    private synchronized void persist(String key, long sample) {
+        if (historyFile == null) {
+            return;
+        }
+
+        try {
+            withLockedHistoryFile(properties -> {
+                // merge with what other JVMs recorded in the meantime
+                String current = properties.getProperty(key);
+                long readyTime = current != null ? average(Long.parseLong(current), sample) : sample;
+                properties.setProperty(key, Long.toString(readyTime));
+                return true;
+            });
+        } catch (Exception e) {
+            log.debug("Could not update the startup history", e);
+        }
+    }
+
+    /**
+     * Reads the history file while holding an exclusive lock on it, and writes it back if {@code update} returns true.
+     */
+    private void withLockedHistoryFile(HistoryFileUpdate update) throws IOException {
+        try (
+            FileChannel channel = FileChannel.open(
+                historyFile,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+            )
+        ) {
+            FileLock lock = channel.lock();
+            try {
+                Properties properties = new Properties();
+                InputStream inputStream = Channels.newInputStream(channel);
+                properties.load(inputStream);
+
+                if (update.apply(properties)) {
+                    channel.truncate(0);
+                    channel.position(0);
+                    OutputStream outputStream = Channels.newOutputStream(channel);
+                    properties.store(outputStream, "Testcontainers startup history");
+                    outputStream.flush();
+                }
+            } finally {
+                lock.release();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface HistoryFileUpdate {
+        boolean apply(Properties properties);
+    }
+}
@@ -0,0 +1,128 @@
+package org.testcontainers.utility;
+
+import org.awaitility.pollinterval.PollInterval;
+import org.rnorth.ducttape.ratelimits.RateLimiter;
+import org.testcontainers.UnstableAPI;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides how long to wait between readiness probes, based on the readiness time expected from the
+ * {@link StartupHistory}.
+ * <p>
+ * The first probe always happens immediately, as the target may already be ready (e.g. a reused container).
+ * After that, probing stays quiet until shortly before the expected ready time, polls densely around it and
+ * backs off once the target is late. Without an expected ready time, probes are spaced by the given interval.
+ */
+@UnstableAPI
+public final class StartupPollSchedule {
+
+    private static final double QUIET_UNTIL = 0.75;
+
+    private static final double DENSE_UNTIL = 1.5;
+
+    private static final Duration MIN_DENSE_INTERVAL = Duration.ofMillis(10);
+
+    private final Duration expectedReadyTime;
+
+    private final long startNanos = System.nanoTime();
+
+    private Duration backOff;
+
+    private int delays = 0;
+
+    StartupPollSchedule(Duration expectedReadyTime) {
+        this.expectedReadyTime = expectedReadyTime;
+    }
+
+    /**
+     * @return the readiness time expected from previous runs, if any
+     */
+    public Optional<Duration> getExpectedReadyTime() {
+        return Optional.ofNullable(expectedReadyTime);
+    }
+
+    /**
+     * @return the number of times a delay was requested, i.e. the number of probes that did not succeed
+     */
+    public synchronized int getDelays() {
+        return delays;
+    }
+
+    /**
+     * @return time elapsed since the schedule was created
+     */
+    public Duration getElapsed() {
+        return Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * @param interval the interval between probes of this kind without history, e.g. 100ms for a port check
+     * @return how long to wait before the next probe, after a probe did not succeed
+     */
+    public synchronized Duration nextDelay(Duration interval) {
+        delays++;
+        if (expectedReadyTime == null) {
+            return interval;
+        }
+
+        long elapsed = getElapsed().toMillis();
+        long expected = expectedReadyTime.toMillis();
+
+        long quietUntil = (long) (expected * QUIET_UNTIL);
+        if (elapsed < quietUntil) {
+            return Duration.ofMillis(quietUntil - elapsed);
+        }
+
+        Duration dense = interval.dividedBy(4);
+        if (dense.compareTo(MIN_DENSE_INTERVAL) < 0) {
+            dense = MIN_DENSE_INTERVAL;
+        }
+        if (elapsed < expected * DENSE_UNTIL) {
+            return dense;
+        }
+
+        Duration maxBackOff = interval.multipliedBy(2);
+        backOff = backOff == null ? dense : backOff.multipliedBy(2);
+        if (backOff.compareTo(maxBackOff) > 0) {
+            backOff = maxBackOff;
+        }
+        return backOff;
+    }
+
+    /**
+     * Sleeps for {@link #nextDelay(Duration)}.
+     *
+     * @param interval the interval between probes of this kind without history
+     * @throws InterruptedException if interrupted while sleeping
+     */
+    public void sleep(Duration interval) throws InterruptedException {
+        TimeUnit.NANOSECONDS.sleep(nextDelay(interval).toNanos());
+    }
+
+    /**
+     * @param interval the interval between probes of this kind without history
+     * @return an Awaitility {@link PollInterval} following this schedule, to be used with a zero poll delay
+     */
+    public PollInterval asPollInterval(Duration interval) {
+        return (pollCount, previousDuration) -> nextDelay(interval);
+    }
+
+    /**
+     * @param interval the interval between probes of this kind without history
+     * @return a {@link RateLimiter} following this schedule
+     */
+    public RateLimiter asRateLimiter(Duration interval) {
+        return new RateLimiter() {
+            @Override
+            protected long getWaitBeforeNextInvocation() {
+                if (lastInvocation == 0) {
+                    return 0;
+                }
+                return nextDelay(interval).toMillis();
+            }
+        };
+    }
+}
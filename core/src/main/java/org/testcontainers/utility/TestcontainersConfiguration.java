@@ -220,6 +220,39 @@ public class TestcontainersConfiguration {
         return getEnvVarOrProperty("pull.policy", null);
     }
 
+    /**
+     * @return the maximum number of concurrent image pulls, or 0 for no limit
+     */
+    public int getStartupPullConcurrency() {
+        return Integer.parseInt(getEnvVarOrProperty("startup.concurrency.pull", "0"));
+    }
+
+    /**
+     * @return the maximum number of containers being created and started concurrently, or 0 for no limit
+     */
+    public int getStartupCreateConcurrency() {
+        return Integer.parseInt(getEnvVarOrProperty("startup.concurrency.create", "0"));
+    }
+
+    /**
+     * @return the maximum number of wait strategies running concurrently, or 0 for no limit
+     */
+    public int getStartupWaitConcurrency() {
+        return Integer.parseInt(getEnvVarOrProperty("startup.concurrency.wait", "0"));
+    }
+
+    public boolean isVirtualThreadsEnabled() {
+        return Boolean.parseBoolean(getEnvVarOrProperty("virtual.threads.enable", "false"));
+    }
+
+    public boolean isPersistentImageCacheEnabled() {
+        return Boolean.parseBoolean(getEnvVarOrProperty("image.cache.persistent", "false"));
+    }
+
+    public boolean isStartupHistoryEnabled() {
+        return Boolean.parseBoolean(getEnvVarOrProperty("startup.history.enable", "false"));
+    }
+
     public Integer getClientPingTimeout() {
         return Integer.parseInt(getEnvVarOrProperty("client.ping.timeout", "10"));
     }
@@ -0,0 +1,73 @@
+package org.testcontainers.utility;
+
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.UnstableAPI;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creates the threads Testcontainers uses for lifecycle, wait strategy and file transfer work.
+ * <p>
+ * Threads are daemon platform threads by default. When {@code virtual.threads.enable} is set and the JVM supports
+ * virtual threads (Java 21+), virtual threads are created instead; on older JVMs the setting is ignored.
+ */
+@UnstableAPI
+@Slf4j
+public final class TestcontainersThreadFactory implements ThreadFactory {
+
+    private final String namePrefix;
+
+    private final AtomicLong counter = new AtomicLong(0);
+
+    private final ThreadFactory virtualThreadFactory;
+
+    /**
+     * @param namePrefix the prefix of thread names, followed by a sequence number
+     * @return a new thread factory
+     */
+    public static TestcontainersThreadFactory of(String namePrefix) {
+        return new TestcontainersThreadFactory(namePrefix);
+    }
+
+    private TestcontainersThreadFactory(String namePrefix) {
+        this.namePrefix = namePrefix;
+        this.virtualThreadFactory =
+            TestcontainersConfiguration.getInstance().isVirtualThreadsEnabled()
+                ? createVirtualThreadFactory(namePrefix)
+                : null;
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        if (virtualThreadFactory != null) {
+            return virtualThreadFactory.newThread(runnable);
+        }
+
+        Thread thread = new Thread(runnable, namePrefix + counter.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * @return whether this factory creates virtual threads
+     */
+    public boolean isVirtual() {
+        return virtualThreadFactory != null;
+    }
+
+    private static ThreadFactory createVirtualThreadFactory(String namePrefix) {
+        try {
+            // Thread.ofVirtual().name(namePrefix, 0).factory(), looked up reflectively as we target Java 8
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            Method factory = builderClass.getMethod("factory");
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            log.debug("Virtual threads are not supported by this JVM, falling back to platform threads");
+            return null;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.testcontainers.containers;
+
+import org.junit.Test;
+import org.testcontainers.TestImages;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ContainerPoolTest {
+
+    private static final Supplier<GenericContainer<?>> TINY_CONTAINER = () -> {
+        return new GenericContainer<>(TestImages.TINY_IMAGE).withCommand("top");
+    };
+
+    @Test
+    public void shouldHandOutRunningContainers() {
+        try (ContainerPool<GenericContainer<?>> pool = ContainerPool.of(TINY_CONTAINER, 1)) {
+            try (
+                GenericContainer<?> first = pool.acquire();
+                GenericContainer<?> second = pool.acquire()
+            ) {
+                assertThat(first.isRunning()).as("first container is running").isTrue();
+                assertThat(second.isRunning()).as("second container is running").isTrue();
+                assertThat(first.getContainerId()).isNotEqualTo(second.getContainerId());
+            }
+        }
+    }
+
+    @Test
+    public void shouldShareThePoolBetweenIdenticalDefinitions() {
+        try (
+            ContainerPool<GenericContainer<?>> pool = ContainerPool.of(TINY_CONTAINER, 1);
+            ContainerPool<GenericContainer<?>> otherPool = ContainerPool.of(
+                () -> new GenericContainer<>(TestImages.TINY_IMAGE).withCommand("top").withEnv("FOO", "bar"),
+                1
+            )
+        ) {
+            assertThat(ContainerPool.of(TINY_CONTAINER, 1)).isSameAs(pool);
+            assertThat(otherPool).isNotSameAs(pool);
+            assertThat(otherPool.getHash()).isNotEqualTo(pool.getHash());
+        }
+    }
+
+    @Test
+    public void shouldRejectAnotherSizeForTheSameDefinition() {
+        try (ContainerPool<GenericContainer<?>> pool = ContainerPool.of(TINY_CONTAINER, 1)) {
+            assertThatThrownBy(() -> ContainerPool.of(TINY_CONTAINER, 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("1 standby containers");
+        }
+    }
+
+    @Test
+    public void shouldNotAcquireFromClosedPool() {
+        ContainerPool<GenericContainer<?>> pool = ContainerPool.of(TINY_CONTAINER, 1);
+        pool.close();
+
+        assertThatThrownBy(pool::acquire).isInstanceOf(IllegalStateException.class);
+    }
+}
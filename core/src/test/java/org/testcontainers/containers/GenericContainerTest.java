@@ -48,6 +48,15 @@ import static org.assertj.core.api.Assumptions.assumeThat;
 
 public class GenericContainerTest {
 
+    @Test
+    public void leasedReuseFailsFastForContainersThatCannotIsolateLeases() {
+        try (GenericContainer<?> container = new GenericContainer<>(TestImages.TINY_IMAGE)) {
+            assertThatThrownBy(() -> container.withLeasedReuse(true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("leased reuse");
+        }
+    }
+
     @Test
     public void shouldReportOOMAfterWait() {
         Info info = DockerClientFactory.instance().client().infoCmd().exec();
@@ -3,12 +3,14 @@ package org.testcontainers.containers;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.CommitCmd;
 import com.github.dockerjava.api.command.CreateContainerCmd;
 import com.github.dockerjava.api.command.CreateContainerResponse;
 import com.github.dockerjava.api.command.InspectContainerCmd;
 import com.github.dockerjava.api.command.InspectContainerResponse;
 import com.github.dockerjava.api.command.ListContainersCmd;
 import com.github.dockerjava.api.command.StartContainerCmd;
+import com.github.dockerjava.api.exception.NotFoundException;
 import com.github.dockerjava.api.model.Container;
 import com.github.dockerjava.core.command.CreateContainerCmdImpl;
 import com.github.dockerjava.core.command.InspectContainerCmdImpl;
@@ -301,6 +303,39 @@ public class ReusabilityUnitTests {
                     }
                 );
         }
+
+        @Test
+        public void shouldKeySnapshotsByCopiedFiles() {
+            List<String> snapshotImages = new ArrayList<>();
+            when(client.inspectImageCmd(any()))
+                .then(invocation -> {
+                    snapshotImages.add(invocation.getArgument(0));
+                    throw new NotFoundException("No such image");
+                });
+            when(client.commitCmd(any())).thenReturn(Mockito.mock(CommitCmd.class, Answers.RETURNS_SELF));
+            String containerId = randomContainerId();
+            when(client.createContainerCmd(any())).then(createContainerAnswer(containerId));
+            when(client.listContainersCmd()).then(listContainersAnswer());
+            when(client.startContainerCmd(containerId)).then(startContainerAnswer());
+            when(client.inspectContainerCmd(containerId)).then(inspectContainerAnswer());
+
+            container.withSnapshot("seeded");
+            container.start();
+
+            // Simulate stop
+            container.containerId = null;
+
+            container.withCopyFileToContainer(
+                MountableFile.forClasspathResource("test_copy_to_container.txt"),
+                "/foo/bar"
+            );
+            container.start();
+
+            assertThat(snapshotImages)
+                .hasSize(2)
+                .doesNotHaveDuplicates()
+                .allMatch(image -> image.startsWith(GenericContainer.SNAPSHOT_REPOSITORY + ":seeded-"));
+        }
     }
 
     @RunWith(Parameterized.class)
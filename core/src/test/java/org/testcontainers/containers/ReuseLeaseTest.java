@@ -0,0 +1,55 @@
+package org.testcontainers.containers;
+
+import org.junit.Test;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReuseLeaseTest {
+
+    private final String hash = UUID.randomUUID().toString();
+
+    @Test
+    public void shouldHandOutDistinctNamespaces() throws Exception {
+        try (ReuseLease first = ReuseLease.acquire(hash); ReuseLease second = ReuseLease.acquire(hash)) {
+            assertThat(first.getIndex()).isZero();
+            assertThat(second.getIndex()).isEqualTo(1);
+            assertThat(first.getNamespace()).isNotEqualTo(second.getNamespace());
+        }
+    }
+
+    @Test
+    public void shouldReuseReleasedLeases() throws Exception {
+        ReuseLease first = ReuseLease.acquire(hash);
+        try (ReuseLease second = ReuseLease.acquire(hash)) {
+            first.close();
+
+            try (ReuseLease third = ReuseLease.acquire(hash)) {
+                assertThat(third.getIndex()).as("the released lease is taken again").isZero();
+            }
+        }
+    }
+
+    @Test
+    public void shouldSerializeCreation() throws Exception {
+        CompletableFuture<Void> other;
+        try (ReuseLease.CreationLock __ = ReuseLease.lockCreation(hash)) {
+            other =
+                CompletableFuture.runAsync(() -> {
+                    try {
+                        ReuseLease.lockCreation(hash).close();
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+
+            Thread.sleep(200);
+            assertThat(other).as("another thread waits for the creation lock").isNotDone();
+        }
+
+        other.get(5, TimeUnit.SECONDS);
+    }
+}
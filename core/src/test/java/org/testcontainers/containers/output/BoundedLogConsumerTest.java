@@ -0,0 +1,57 @@
+package org.testcontainers.containers.output;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BoundedLogConsumerTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldKeepMostRecentLines() {
+        BoundedLogConsumer consumer = new BoundedLogConsumer(2, 1024);
+        consumer.accept(frame("one"));
+        consumer.accept(frame("two"));
+        consumer.accept(frame("three"));
+        consumer.accept(OutputFrame.END);
+
+        assertThat(consumer.toUtf8String()).isEqualTo("two\nthree\n");
+        assertThat(consumer.getDroppedLines()).isEqualTo(1);
+        assertThat(consumer.tail(1)).extracting(OutputFrame::getUtf8String).containsExactly("three\n");
+        assertThat(consumer.tail(5)).extracting(OutputFrame::getUtf8String).containsExactly("two\n", "three\n");
+    }
+
+    @Test
+    public void shouldLimitRetainedBytes() {
+        BoundedLogConsumer consumer = new BoundedLogConsumer(100, 10);
+        consumer.accept(frame("1234"));
+        consumer.accept(frame("5678"));
+        consumer.accept(frame("9"));
+
+        assertThat(consumer.toUtf8String()).isEqualTo("5678\n9\n");
+    }
+
+    @Test
+    public void shouldSpillEvictedLines() throws Exception {
+        Path spillFile = temporaryFolder.getRoot().toPath().resolve("spill.log");
+        try (BoundedLogConsumer consumer = new BoundedLogConsumer(1, 1024).withSpillFile(spillFile)) {
+            consumer.accept(frame("one"));
+            consumer.accept(frame("two"));
+            consumer.accept(frame("three"));
+        }
+
+        assertThat(new String(Files.readAllBytes(spillFile), StandardCharsets.UTF_8)).isEqualTo("one\ntwo\n");
+    }
+
+    private static OutputFrame frame(String line) {
+        return new OutputFrame(OutputFrame.OutputType.STDOUT, (line + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+}
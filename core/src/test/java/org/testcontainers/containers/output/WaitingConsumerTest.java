@@ -0,0 +1,99 @@
+package org.testcontainers.containers.output;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class WaitingConsumerTest {
+
+    @Test
+    public void shouldMatchBufferedFrames() throws Exception {
+        WaitingConsumer consumer = new WaitingConsumer();
+        consumer.accept(frame("starting"));
+        consumer.accept(frame("STARTED"));
+
+        consumer.waitUntil(it -> it.getUtf8String().contains("STARTED"), 1, TimeUnit.SECONDS);
+    }
+
+    @Test(timeout = 10_000L)
+    public void shouldWakeUpWhenFrameArrives() throws Exception {
+        WaitingConsumer consumer = new WaitingConsumer();
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            executor.schedule(() -> consumer.accept(frame("STARTED")), 100, TimeUnit.MILLISECONDS);
+
+            consumer.waitUntil(it -> it.getUtf8String().contains("STARTED"), 5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldWaitForTheGivenNumberOfMatches() {
+        WaitingConsumer consumer = new WaitingConsumer();
+        consumer.accept(frame("ready"));
+
+        CompletableFuture<Void> future = consumer.waitUntilAsync(it -> it.getUtf8String().contains("ready"), 2);
+        assertThat(future).as("only one match so far").isNotDone();
+
+        consumer.accept(frame("other"));
+        consumer.accept(frame("ready"));
+        assertThat(future).as("second match completes the wait").isCompleted();
+    }
+
+    @Test
+    public void shouldTimeOutAndKeepLaterFrames() throws Exception {
+        WaitingConsumer consumer = new WaitingConsumer();
+
+        assertThatThrownBy(() -> consumer.waitUntil(it -> true, 50, TimeUnit.MILLISECONDS))
+            .isInstanceOf(TimeoutException.class);
+
+        consumer.accept(frame("late"));
+        assertThat(consumer.getFrames()).as("frames after a timed out wait are buffered").hasSize(1);
+        consumer.waitUntil(it -> it.getUtf8String().contains("late"), 1, TimeUnit.SECONDS);
+    }
+
+    @Test(timeout = 10_000L)
+    public void shouldFailTheWaitWhenThePredicateThrowsAnError() {
+        WaitingConsumer consumer = new WaitingConsumer();
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            executor.schedule(() -> consumer.accept(frame("boom")), 100, TimeUnit.MILLISECONDS);
+
+            assertThatThrownBy(() -> {
+                    consumer.waitUntil(
+                        it -> {
+                            throw new AssertionError("predicate failed");
+                        },
+                        5,
+                        TimeUnit.MINUTES
+                    );
+                })
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("predicate failed");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldWaitUntilEnd() throws Exception {
+        WaitingConsumer consumer = new WaitingConsumer();
+        consumer.accept(frame("output"));
+        consumer.accept(OutputFrame.END);
+
+        consumer.waitUntilEnd(1, TimeUnit.SECONDS);
+    }
+
+    private static OutputFrame frame(String line) {
+        return new OutputFrame(OutputFrame.OutputType.STDOUT, (line + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+}
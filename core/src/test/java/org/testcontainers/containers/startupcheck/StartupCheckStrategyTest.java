@@ -0,0 +1,35 @@
+package org.testcontainers.containers.startupcheck;
+
+import com.github.dockerjava.api.DockerClient;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.testcontainers.utility.Base58;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StartupCheckStrategyTest {
+
+    @Test(timeout = 30_000L)
+    public void shouldPollAgainWhenNoEventArrives() {
+        AtomicInteger checks = new AtomicInteger();
+        StartupCheckStrategy strategy = new StartupCheckStrategy() {
+            @Override
+            public StartupStatus checkStartupState(DockerClient dockerClient, String containerId) {
+                return checks.incrementAndGet() < 3 ? StartupStatus.NOT_YET_KNOWN : StartupStatus.SUCCESSFUL;
+            }
+        }
+            .withTimeout(Duration.ofSeconds(20));
+
+        // no events are ever emitted for a container that does not exist
+        boolean started = strategy.waitUntilStartupSuccessful(
+            Mockito.mock(DockerClient.class),
+            "not-a-container-" + Base58.randomString(8)
+        );
+
+        assertThat(started).isTrue();
+        assertThat(checks).hasValue(3);
+    }
+}
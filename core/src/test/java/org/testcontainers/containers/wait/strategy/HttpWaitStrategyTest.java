@@ -0,0 +1,146 @@
+package org.testcontainers.containers.wait.strategy;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.testcontainers.containers.ContainerLaunchException;
+
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class HttpWaitStrategyTest {
+
+    private static final int CONTAINER_PORT = 8080;
+
+    private HttpServer server;
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    @Before
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext(
+            "/",
+            exchange -> {
+                clientPorts.add(exchange.getRemoteAddress().getPort());
+                // not ready for the first two requests, with a body that has to be read to reuse the connection
+                boolean ready = requests.incrementAndGet() > 2;
+                byte[] body = (ready ? "ready" : "starting").getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(ready ? 200 : 503, body.length);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(body);
+                }
+            }
+        );
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test(timeout = 30_000L)
+    public void shouldReuseTheConnectionAcrossAttempts() {
+        WaitStrategyTarget target = Mockito.mock(WaitStrategyTarget.class, Mockito.RETURNS_DEEP_STUBS);
+        Mockito.doReturn(server.getAddress().getHostString()).when(target).getHost();
+        Mockito.doReturn(server.getAddress().getPort()).when(target).getMappedPort(CONTAINER_PORT);
+
+        new HttpWaitStrategy()
+            .forPort(CONTAINER_PORT)
+            .withStartupTimeout(Duration.ofSeconds(20))
+            .waitUntilReady(target);
+
+        assertThat(requests).hasValue(3);
+        assertThat(clientPorts).as("response bodies are drained, so one connection serves all attempts").hasSize(1);
+    }
+
+    @Test(timeout = 30_000L)
+    public void shouldProbeAllPortsAndPathsConcurrently() throws Exception {
+        HttpServer otherServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        otherServer.setExecutor(Executors.newCachedThreadPool());
+        Set<String> probed = ConcurrentHashMap.newKeySet();
+        // only ready while both paths are probed at the same time
+        AtomicInteger inFlight = new AtomicInteger();
+        otherServer.createContext(
+            "/",
+            exchange -> {
+                probed.add(exchange.getRequestURI().getPath());
+                inFlight.incrementAndGet();
+                boolean concurrent = false;
+                try {
+                    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+                    while (!concurrent && System.nanoTime() < deadline) {
+                        concurrent = inFlight.get() >= 2;
+                        Thread.sleep(10);
+                    }
+                } catch (InterruptedException ignored) {} finally {
+                    exchange.sendResponseHeaders(concurrent ? 200 : 503, -1);
+                    exchange.close();
+                    inFlight.decrementAndGet();
+                }
+            }
+        );
+        otherServer.start();
+        try {
+            WaitStrategyTarget target = Mockito.mock(WaitStrategyTarget.class, Mockito.RETURNS_DEEP_STUBS);
+            Mockito.doReturn(server.getAddress().getHostString()).when(target).getHost();
+            Mockito.doReturn(server.getAddress().getPort()).when(target).getMappedPort(CONTAINER_PORT);
+            Mockito.doReturn(otherServer.getAddress().getPort()).when(target).getMappedPort(CONTAINER_PORT + 1);
+
+            new HttpWaitStrategy()
+                .forPorts(CONTAINER_PORT, CONTAINER_PORT + 1)
+                .forPaths("/health", "/ready")
+                .withStartupTimeout(Duration.ofSeconds(20))
+                .waitUntilReady(target);
+
+            assertThat(requests).as("both paths of the first port are probed until ready").hasValueGreaterThan(2);
+            assertThat(probed).containsExactlyInAnyOrder("/health", "/ready");
+        } finally {
+            otherServer.stop(0);
+            ((ExecutorService) otherServer.getExecutor()).shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldNameTheUrlsThatAreNotReadyOnTimeout() {
+        WaitStrategyTarget target = Mockito.mock(WaitStrategyTarget.class, Mockito.RETURNS_DEEP_STUBS);
+        Mockito.doReturn(server.getAddress().getHostString()).when(target).getHost();
+        Mockito.doReturn(server.getAddress().getPort()).when(target).getMappedPort(CONTAINER_PORT);
+
+        assertThatThrownBy(() -> {
+                new HttpWaitStrategy()
+                    .forPort(CONTAINER_PORT)
+                    .forPath("/")
+                    .forStatusCode(204)
+                    .withStartupTimeout(Duration.ofMillis(500))
+                    .waitUntilReady(target);
+            })
+            .isInstanceOf(ContainerLaunchException.class)
+            .hasMessageContaining(":" + server.getAddress().getPort() + "/ should return HTTP [204]")
+            .hasRootCauseMessage("HTTP response code was: 503");
+    }
+
+    @Test
+    public void shouldCreateTheInsecureSocketFactoryOnce() throws Exception {
+        HttpWaitStrategy strategy = new HttpWaitStrategy().usingTls().allowInsecure();
+
+        assertThat(strategy.getInsecureSocketFactory()).isSameAs(strategy.getInsecureSocketFactory());
+    }
+}
@@ -5,15 +5,21 @@ import org.junit.Test;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.stubbing.Answer;
 import org.rnorth.ducttape.TimeoutException;
 import org.testcontainers.containers.GenericContainer;
 
 import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
@@ -131,6 +137,49 @@ public class WaitAllStrategyTest {
         inOrder.verify(strategy3, never()).waitUntilReady(any());
     }
 
+    @Test
+    public void parallelExecutionShouldRunChildrenConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Answer<Void> awaitOther = __ -> {
+            bothStarted.countDown();
+            assertThat(bothStarted.await(5, TimeUnit.SECONDS)).as("other child runs concurrently").isTrue();
+            return null;
+        };
+        doAnswer(awaitOther).when(strategy1).waitUntilReady(eq(container));
+        doAnswer(awaitOther).when(strategy2).waitUntilReady(eq(container));
+
+        new WaitAllStrategy().withStrategy(strategy1).withStrategy(strategy2).inParallel().waitUntilReady(container);
+
+        verify(strategy1).waitUntilReady(any());
+        verify(strategy2).waitUntilReady(any());
+    }
+
+    @Test
+    public void parallelExecutionShouldFailFast() {
+        AtomicBoolean interrupted = new AtomicBoolean();
+        doAnswer(__ -> {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                }
+                return null;
+            })
+            .when(strategy1)
+            .waitUntilReady(eq(container));
+        doThrow(TimeoutException.class).when(strategy2).waitUntilReady(eq(container));
+
+        final WaitStrategy underTest = new WaitAllStrategy()
+            .withStrategy(strategy1)
+            .withStrategy(strategy2)
+            .inParallel();
+
+        assertThat(catchThrowable(() -> underTest.waitUntilReady(container)))
+            .as("The failure of a child is propagated")
+            .hasRootCauseInstanceOf(TimeoutException.class);
+        await().atMost(Duration.ofSeconds(5)).untilTrue(interrupted);
+    }
+
     @Test
     public void timeoutChangeShouldNotBePossibleWithIndividualTimeoutMode() {
         final WaitStrategy underTest = new WaitAllStrategy(WaitAllStrategy.Mode.WITH_INDIVIDUAL_TIMEOUTS_ONLY);
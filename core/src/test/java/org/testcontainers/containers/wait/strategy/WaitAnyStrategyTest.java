@@ -0,0 +1,98 @@
+package org.testcontainers.containers.wait.strategy;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.rnorth.ducttape.TimeoutException;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.GenericContainer;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+public class WaitAnyStrategyTest {
+
+    @Mock
+    private GenericContainer container;
+
+    @Mock
+    private WaitStrategy strategy1;
+
+    @Mock
+    private WaitStrategy strategy2;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+    }
+
+    @Test
+    public void shouldSucceedWhenAnyChildSucceeds() {
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        doAnswer(__ -> {
+                slowStarted.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                }
+                return null;
+            })
+            .when(strategy1)
+            .waitUntilReady(eq(container));
+        doAnswer(__ -> slowStarted.await(5, TimeUnit.SECONDS)).when(strategy2).waitUntilReady(eq(container));
+
+        Wait.forAny(strategy1, strategy2).waitUntilReady(container);
+
+        verify(strategy2).waitUntilReady(any());
+        await().atMost(Duration.ofSeconds(5)).untilTrue(interrupted);
+    }
+
+    @Test
+    public void shouldIgnoreFailuresWhileAnotherChildSucceeds() {
+        doThrow(new ContainerLaunchException("boom")).when(strategy1).waitUntilReady(eq(container));
+        doNothing().when(strategy2).waitUntilReady(eq(container));
+
+        Wait.forAny(strategy1, strategy2).waitUntilReady(container);
+
+        verify(strategy2).waitUntilReady(any());
+    }
+
+    @Test
+    public void shouldFailWhenAllChildrenFail() {
+        doThrow(new ContainerLaunchException("boom")).when(strategy1).waitUntilReady(eq(container));
+        doThrow(new ContainerLaunchException("boom")).when(strategy2).waitUntilReady(eq(container));
+
+        assertThat(catchThrowable(() -> Wait.forAny(strategy1, strategy2).waitUntilReady(container)))
+            .hasRootCauseInstanceOf(ContainerLaunchException.class);
+    }
+
+    @Test
+    public void outerTimeoutApplies() {
+        doAnswer(__ -> {
+                Thread.sleep(10_000);
+                return null;
+            })
+            .when(strategy1)
+            .waitUntilReady(eq(container));
+
+        WaitStrategy underTest = Wait.forAny(strategy1).withStartupTimeout(Duration.ofMillis(100));
+
+        assertThat(catchThrowable(() -> underTest.waitUntilReady(container))).isInstanceOf(TimeoutException.class);
+        verify(strategy1).withStartupTimeout(Duration.ofMillis(100));
+    }
+}
@@ -0,0 +1,147 @@
+package org.testcontainers.images;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.EventsCmd;
+import com.github.dockerjava.api.command.InspectImageCmd;
+import com.github.dockerjava.api.command.InspectImageResponse;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.api.model.EventActor;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+
+public class PersistentImageCacheTest {
+
+    private static final DockerImageName REDIS = DockerImageName.parse("redis:6-alpine");
+
+    private static final DockerImageName NGINX = DockerImageName.parse("nginx:1.25");
+
+    private static final Instant NOW = Instant.ofEpochSecond(1_700_000_000);
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path file;
+
+    @Before
+    public void setUp() {
+        file = temporaryFolder.getRoot().toPath().resolve("images.properties");
+    }
+
+    @Test
+    public void shouldLoadStoredEntries() throws Exception {
+        PersistentImageCache cache = new PersistentImageCache(file);
+        assertThat(cache.load(dockerClientWithEvents(), NOW)).isEmpty();
+
+        cache.store(REDIS, imageData(1000), "sha256:redis");
+        cache.store(NGINX, imageData(2000), "sha256:nginx");
+        cache.store(NGINX, null, null);
+
+        // another JVM, sharing the same file
+        assertThat(new PersistentImageCache(file).load(dockerClientWithEvents(), NOW.plusSeconds(10)))
+            .containsOnlyKeys(REDIS)
+            .containsEntry(REDIS, imageData(1000));
+    }
+
+    @Test
+    public void shouldDropEntriesAffectedByImageEvents() throws Exception {
+        PersistentImageCache cache = new PersistentImageCache(file);
+        cache.load(dockerClientWithEvents(), NOW);
+        cache.store(REDIS, imageData(1000), "sha256:redis");
+        cache.store(NGINX, imageData(2000), "sha256:nginx");
+
+        DockerClient dockerClient = dockerClientWithEvents(new Event("pull", "sha256:nginx", "nginx", 0L));
+        assertThat(cache.load(dockerClient, NOW.plusSeconds(10))).containsOnlyKeys(REDIS);
+    }
+
+    @Test
+    public void shouldDropEntriesAffectedByEventsForTheImageName() throws Exception {
+        PersistentImageCache cache = new PersistentImageCache(file);
+        cache.load(dockerClientWithEvents(), NOW);
+        cache.store(REDIS, imageData(1000), "sha256:old");
+
+        Event tag = new Event("tag", "sha256:new", "redis", 0L)
+            .withEventActor(
+                new EventActor()
+                    .withId("sha256:new")
+                    .withAttributes(Collections.singletonMap("name", REDIS.asCanonicalNameString()))
+            );
+        assertThat(cache.load(dockerClientWithEvents(tag), NOW.plusSeconds(10))).isEmpty();
+    }
+
+    @Test
+    public void shouldInspectAllImagesWhenEventsMayBeIncomplete() throws Exception {
+        PersistentImageCache cache = new PersistentImageCache(file);
+        cache.load(dockerClientWithEvents(), NOW);
+        cache.store(REDIS, imageData(1000), "sha256:redis");
+        cache.store(NGINX, imageData(2000), "sha256:nginx");
+
+        // as many events as the daemon keeps, so older events may be missing
+        Event[] events = new Event[256];
+        Arrays.fill(events, new Event("pull", "sha256:other", "other", 0L));
+        DockerClient dockerClient = dockerClientWithEvents(events);
+        withImage(dockerClient, REDIS, "sha256:redis");
+        withImage(dockerClient, NGINX, "sha256:newer");
+
+        assertThat(cache.load(dockerClient, NOW.plusSeconds(10))).containsOnlyKeys(REDIS);
+    }
+
+    @Test
+    public void shouldInspectAllImagesWhenValidatedLongAgo() throws Exception {
+        PersistentImageCache cache = new PersistentImageCache(file);
+        cache.load(dockerClientWithEvents(), NOW);
+        cache.store(REDIS, imageData(1000), "sha256:redis");
+        cache.store(NGINX, imageData(2000), "sha256:nginx");
+
+        // the daemon may have been restarted since, and have lost the events
+        DockerClient dockerClient = dockerClientWithEvents();
+        withImage(dockerClient, REDIS, "sha256:redis");
+
+        assertThat(cache.load(dockerClient, NOW.plus(Duration.ofHours(1)))).containsOnlyKeys(REDIS);
+        Mockito.verify(dockerClient, Mockito.never()).eventsCmd();
+    }
+
+    private static ImageData imageData(long createdAtMillis) {
+        return ImageData.builder().createdAt(Instant.ofEpochMilli(createdAtMillis)).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DockerClient dockerClientWithEvents(Event... events) {
+        List<Event> eventList = Arrays.asList(events);
+        DockerClient dockerClient = Mockito.mock(DockerClient.class);
+        Mockito.doThrow(new NotFoundException("No such image")).when(dockerClient).inspectImageCmd(any());
+        EventsCmd eventsCmd = Mockito.mock(EventsCmd.class, Mockito.RETURNS_SELF);
+        Mockito.doReturn(eventsCmd).when(dockerClient).eventsCmd();
+        Mockito
+            .doAnswer(invocation -> {
+                ResultCallback<Event> callback = invocation.getArgument(0);
+                eventList.forEach(callback::onNext);
+                callback.onComplete();
+                return callback;
+            })
+            .when(eventsCmd)
+            .exec(any());
+        return dockerClient;
+    }
+
+    private static void withImage(DockerClient dockerClient, DockerImageName imageName, String imageId) {
+        InspectImageCmd inspectImageCmd = Mockito.mock(InspectImageCmd.class);
+        Mockito.doReturn(new InspectImageResponse().withId(imageId)).when(inspectImageCmd).exec();
+        Mockito.doReturn(inspectImageCmd).when(dockerClient).inspectImageCmd(imageName.asCanonicalNameString());
+    }
+}
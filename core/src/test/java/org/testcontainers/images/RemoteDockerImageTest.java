@@ -1,13 +1,25 @@
 package org.testcontainers.images;
 
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.InspectImageCmd;
+import com.github.dockerjava.api.command.PullImageCmd;
+import com.github.dockerjava.api.exception.NotFoundException;
 import org.junit.Test;
+import org.mockito.Mockito;
 import org.testcontainers.utility.Base58;
 import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.ImageNameSubstitutor;
 import org.testcontainers.utility.LazyFuture;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -73,4 +85,52 @@ public class RemoteDockerImageTest {
         imageNameFuture.get();
         assertThat(remoteDockerImage.toString()).contains("imageName=" + imageName);
     }
+
+    @Test(timeout = 30_000L)
+    public void concurrentResolvesShouldPullOnce() throws Exception {
+        DockerImageName imageName = DockerImageName.parse(
+            "testcontainers/not-existing-" + Base58.randomString(8).toLowerCase()
+        );
+        AtomicInteger pulls = new AtomicInteger();
+        DockerClient dockerClient = Mockito.mock(DockerClient.class);
+        PullImageCmd pullImageCmd = Mockito.mock(PullImageCmd.class, Mockito.RETURNS_SELF);
+        Mockito.doReturn(pullImageCmd).when(dockerClient).pullImageCmd(Mockito.anyString());
+        // the image cache is refreshed with the same client after the pull
+        InspectImageCmd inspectImageCmd = Mockito.mock(InspectImageCmd.class);
+        Mockito.doReturn(inspectImageCmd).when(dockerClient).inspectImageCmd(Mockito.anyString());
+        Mockito.doThrow(new NotFoundException("No such image")).when(inspectImageCmd).exec();
+        Mockito
+            .doAnswer(invocation -> {
+                pulls.incrementAndGet();
+                Thread.sleep(500);
+                ResultCallback<?> callback = invocation.getArgument(0);
+                callback.onStart(() -> {});
+                callback.onComplete();
+                return callback;
+            })
+            .when(pullImageCmd)
+            .exec(Mockito.any());
+
+        int resolvers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(resolvers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < resolvers; i++) {
+                RemoteDockerImage image = new RemoteDockerImage(
+                    CompletableFuture.completedFuture(imageName),
+                    __ -> true,
+                    ImageNameSubstitutor.noop(),
+                    dockerClient
+                );
+                results.add(executor.submit(() -> image.get()));
+            }
+
+            for (Future<String> result : results) {
+                assertThat(result.get()).isEqualTo(imageName.asCanonicalNameString());
+            }
+            assertThat(pulls).as("concurrent resolves share one pull").hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -5,6 +5,7 @@ import org.junit.ClassRule;
 import org.junit.Test;
 import org.testcontainers.TestImages;
 import org.testcontainers.containers.ExecConfig;
+import org.testcontainers.containers.ExecSession;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.utility.TestEnvironment;
 
@@ -70,4 +71,24 @@ public class ExecInContainerTest {
         );
         assertThat(result.getStdout()).contains("TESTCONTAINERS=JAVA");
     }
+
+    @Test
+    public void shouldExecuteCommandsInSession() throws Exception {
+        Assume.assumeTrue(TestEnvironment.dockerExecutionDriverSupportsExec());
+
+        try (ExecSession session = redis.openExecSession()) {
+            final GenericContainer.ExecResult role = session.exec("redis-cli", "role");
+            assertThat(role.getExitCode()).isZero();
+            assertThat(role.getStdout()).startsWith("master");
+            assertThat(role.getStderr()).isEmpty();
+
+            final GenericContainer.ExecResult failed = session.exec("sh", "-c", "echo 'it failed' >&2; exit 3");
+            assertThat(failed.getExitCode()).isEqualTo(3);
+            assertThat(failed.getStdout()).isEmpty();
+            assertThat(failed.getStderr()).isEqualTo("it failed\n");
+
+            final GenericContainer.ExecResult quoted = session.exec("echo", "it's quoted");
+            assertThat(quoted.getStdout()).isEqualTo("it's quoted\n");
+        }
+    }
 }
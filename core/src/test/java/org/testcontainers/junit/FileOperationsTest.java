@@ -11,12 +11,16 @@ import org.testcontainers.TestImages;
 import org.testcontainers.containers.Container;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.startupcheck.OneShotStartupCheckStrategy;
+import org.testcontainers.images.builder.Transferable;
 import org.testcontainers.utility.MountableFile;
 
 import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -44,6 +48,25 @@ public class FileOperationsTest {
         }
     }
 
+    @Test
+    public void copyMultipleFilesToContainerTest() throws Exception {
+        try (
+            GenericContainer<?> alpineCopyToContainer = new GenericContainer<>(TestImages.ALPINE_IMAGE)
+                .withCommand("top")
+        ) {
+            alpineCopyToContainer.start();
+            Map<String, Transferable> files = new LinkedHashMap<>();
+            files.put("/home/first.txt", Transferable.of("first"));
+            files.put("/home/nested/second.txt", Transferable.of("second"));
+            alpineCopyToContainer.copyFilesToContainer(files);
+
+            byte[] first = alpineCopyToContainer.copyFileFromContainer("/home/first.txt", IOUtils::toByteArray);
+            assertThat(new String(first, StandardCharsets.UTF_8)).isEqualTo("first");
+            byte[] second = alpineCopyToContainer.copyFileFromContainer("/home/nested/second.txt", IOUtils::toByteArray);
+            assertThat(new String(second, StandardCharsets.UTF_8)).isEqualTo("second");
+        }
+    }
+
     @Test
     public void copyLargeFilesToContainer() throws Exception {
         File tempFile = temporaryFolder.newFile();
@@ -5,9 +5,13 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.testcontainers.containers.wait.strategy.LogMessageWaitStrategy;
+import org.testcontainers.containers.wait.strategy.WaitStrategyTarget;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
 /**
  * Tests for {@link LogMessageWaitStrategy}.
  */
@@ -16,17 +20,21 @@ public class LogMessageWaitStrategyTest extends AbstractWaitStrategyTest<LogMess
 
     private final String pattern;
 
+    private final boolean substring;
+
     @Parameterized.Parameters(name = "{0}")
-    public static Object[] parameters() {
-        return new String[] {
-            ".*ready.*\\s", // previous recommended style (explicit line ending)
-            ".*ready!\\s", // explicit line ending without wildcard after expected text
-            ".*ready.*", // new style (line ending matched by wildcard)
+    public static Object[][] parameters() {
+        return new Object[][] {
+            { ".*ready.*\\s", false }, // previous recommended style (explicit line ending)
+            { ".*ready!\\s", false }, // explicit line ending without wildcard after expected text
+            { ".*ready.*", false }, // new style (line ending matched by wildcard)
+            { "ready!", true }, // literal text
         };
     }
 
-    public LogMessageWaitStrategyTest(String pattern) {
+    public LogMessageWaitStrategyTest(String pattern, boolean substring) {
         this.pattern = pattern;
+        this.substring = substring;
     }
 
     private static final String READY_MESSAGE = "I'm ready!";
@@ -50,17 +58,25 @@ public class LogMessageWaitStrategyTest extends AbstractWaitStrategyTest<LogMess
         waitUntilReadyAndTimeout("echo -e \"" + READY_MESSAGE + "\";" + "echo -e \"foobar\";" + "sleep 300");
     }
 
+    @Test
+    public void testWaitUntilReady_NothingToWaitFor() {
+        LogMessageWaitStrategy strategy = new LogMessageWaitStrategy().withRegEx(null);
+
+        assertThatThrownBy(() -> strategy.waitUntilReady(mock(WaitStrategyTarget.class)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("withRegEx or withSubstring");
+    }
+
     @NotNull
     @Override
     protected LogMessageWaitStrategy buildWaitStrategy(AtomicBoolean ready) {
-        return new LogMessageWaitStrategy() {
+        LogMessageWaitStrategy strategy = new LogMessageWaitStrategy() {
             @Override
             protected void waitUntilReady() {
                 super.waitUntilReady();
                 ready.set(true);
             }
-        }
-            .withRegEx(pattern)
-            .withTimes(2);
+        };
+        return (substring ? strategy.withSubstring(pattern) : strategy.withRegEx(pattern)).withTimes(2);
     }
 }
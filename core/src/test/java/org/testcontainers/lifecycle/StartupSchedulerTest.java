@@ -0,0 +1,93 @@
+package org.testcontainers.lifecycle;
+
+import lombok.SneakyThrows;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StartupSchedulerTest {
+
+    private final List<String> startOrder = new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger running = new AtomicInteger();
+
+    private final AtomicInteger maxRunning = new AtomicInteger();
+
+    @Test
+    public void shouldLimitConcurrencyAndRespectDependencies() throws Exception {
+        TestStartable a = new TestStartable("a");
+        TestStartable b = new TestStartable("b", a);
+        TestStartable c = new TestStartable("c");
+        TestStartable d = new TestStartable("d");
+        TestStartable e = new TestStartable("e", b, c, d);
+
+        Map<Startable, Duration> timings = new StartupScheduler(2)
+            .start(Arrays.asList(e, d, c))
+            .get(30, TimeUnit.SECONDS);
+
+        assertThat(timings).containsOnlyKeys(a, b, c, d, e);
+        assertThat(maxRunning.get()).as("concurrent starts").isLessThanOrEqualTo(2);
+        assertThat(startOrder.indexOf("a")).isLessThan(startOrder.indexOf("b"));
+        assertThat(startOrder.indexOf("b")).isLessThan(startOrder.indexOf("e"));
+        assertThat(startOrder).endsWith("e");
+    }
+
+    @Test
+    public void shouldStartLongestChainFirst() throws Exception {
+        TestStartable a = new TestStartable("a");
+        TestStartable b = new TestStartable("b", a);
+        TestStartable c = new TestStartable("c", b);
+        TestStartable single1 = new TestStartable("single1");
+        TestStartable single2 = new TestStartable("single2");
+        TestStartable blocker = new TestStartable("blocker");
+
+        // occupy the only slot so that everything else is queued and ordered by priority
+        new StartupScheduler(1).start(Arrays.asList(blocker, single1, single2, c)).get(30, TimeUnit.SECONDS);
+
+        assertThat(startOrder).startsWith("blocker", "a");
+    }
+
+    private class TestStartable implements Startable {
+
+        private final String name;
+
+        private final Set<Startable> dependencies;
+
+        TestStartable(String name, Startable... dependencies) {
+            this.name = name;
+            this.dependencies = new HashSet<>(Arrays.asList(dependencies));
+        }
+
+        @Override
+        public Set<Startable> getDependencies() {
+            return dependencies;
+        }
+
+        @Override
+        @SneakyThrows(InterruptedException.class)
+        public void start() {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            startOrder.add(name);
+            Thread.sleep(50);
+            running.decrementAndGet();
+        }
+
+        @Override
+        public void stop() {}
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
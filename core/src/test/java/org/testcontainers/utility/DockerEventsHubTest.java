@@ -0,0 +1,76 @@
+package org.testcontainers.utility;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.EventsCmd;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.api.model.EventActor;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DockerEventsHubTest {
+
+    @Test
+    public void shouldWakeWaitersOnMatchingEvents() throws Exception {
+        DockerEventsHub hub = new DockerEventsHub(() ->
+            dockerClientEmitting(
+                containerEvent("other", "start"),
+                containerEvent("container", "create"),
+                containerEvent("container", "start")
+            )
+        );
+
+        assertThat(hub.await("container", "start"::equals, Duration.ofSeconds(10))).isTrue();
+    }
+
+    @Test
+    public void shouldNotWakeWaitersOnEventsOfOtherContainersOrActions() throws Exception {
+        DockerEventsHub hub = new DockerEventsHub(() ->
+            dockerClientEmitting(containerEvent("other", "start"), containerEvent("container", "create"))
+        );
+
+        assertThat(hub.await("container", "start"::equals, Duration.ofMillis(200))).isFalse();
+    }
+
+    @Test
+    public void shouldFallBackToSleepingWhenEventsAreUnavailable() throws Exception {
+        DockerEventsHub hub = new DockerEventsHub(() -> {
+            throw new IllegalStateException("no Docker");
+        });
+
+        long startedAt = System.nanoTime();
+        assertThat(hub.await("container", "start"::equals, Duration.ofMillis(200))).isFalse();
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+    }
+
+    /**
+     * @return a client whose event stream emits the given events once subscribed to
+     */
+    private static DockerClient dockerClientEmitting(Event... events) {
+        List<Event> eventList = Arrays.asList(events);
+        DockerClient dockerClient = Mockito.mock(DockerClient.class);
+        EventsCmd eventsCmd = Mockito.mock(EventsCmd.class, Mockito.RETURNS_SELF);
+        Mockito.doReturn(eventsCmd).when(dockerClient).eventsCmd();
+        Mockito
+            .doAnswer(invocation -> {
+                ResultCallback<Event> callback = invocation.getArgument(0);
+                eventList.forEach(callback::onNext);
+                return callback;
+            })
+            .when(eventsCmd)
+            .exec(Mockito.any());
+        return dockerClient;
+    }
+
+    private static Event containerEvent(String containerId, String action) {
+        return new Event(action, containerId, null, null)
+            .withAction(action)
+            .withEventActor(new EventActor().withId(containerId));
+    }
+}
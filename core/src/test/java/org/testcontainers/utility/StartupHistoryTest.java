@@ -0,0 +1,84 @@
+package org.testcontainers.utility;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StartupHistoryTest {
+
+    private static final Duration INTERVAL = Duration.ofMillis(100);
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldPollAtFixedIntervalWithoutHistory() {
+        StartupPollSchedule schedule = new StartupHistory(true, null).schedule("postgres:16", "jdbc");
+
+        assertThat(schedule.getExpectedReadyTime()).isEmpty();
+        assertThat(schedule.nextDelay(INTERVAL)).isEqualTo(INTERVAL);
+        assertThat(schedule.nextDelay(INTERVAL)).isEqualTo(INTERVAL);
+        assertThat(schedule.getDelays()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldStayQuietUntilExpectedReadyTime() {
+        StartupPollSchedule schedule = new StartupPollSchedule(Duration.ofSeconds(10));
+
+        assertThat(schedule.nextDelay(INTERVAL))
+            .as("waits until shortly before the expected ready time")
+            .isGreaterThan(Duration.ofSeconds(7))
+            .isLessThanOrEqualTo(Duration.ofMillis(7500));
+    }
+
+    @Test
+    public void shouldPollDenselyAroundAndBackOffAfterExpectedReadyTime() throws InterruptedException {
+        StartupPollSchedule schedule = new StartupPollSchedule(Duration.ofMillis(20));
+        Thread.sleep(20);
+
+        assertThat(schedule.nextDelay(INTERVAL)).as("polls densely around the expected time").isLessThan(INTERVAL);
+
+        Thread.sleep(20);
+        Duration first = schedule.nextDelay(INTERVAL);
+        Duration second = schedule.nextDelay(INTERVAL);
+        assertThat(second).as("backs off once late").isGreaterThan(first);
+        for (int i = 0; i < 10; i++) {
+            assertThat(schedule.nextDelay(INTERVAL)).isLessThanOrEqualTo(INTERVAL.multipliedBy(2));
+        }
+    }
+
+    @Test
+    public void shouldShareRecordedReadyTimesThroughHistoryFile() {
+        Path historyFile = temporaryFolder.getRoot().toPath().resolve("history.properties");
+
+        new StartupHistory(true, historyFile).record("postgres:16", "jdbc", Duration.ofSeconds(4));
+        StartupHistory otherJvm = new StartupHistory(true, historyFile);
+
+        assertThat(otherJvm.schedule("postgres:16", "jdbc").getExpectedReadyTime()).contains(Duration.ofSeconds(4));
+        assertThat(otherJvm.schedule("postgres:16", "http").getExpectedReadyTime()).isEmpty();
+        assertThat(otherJvm.schedule(null, "jdbc").getExpectedReadyTime()).isEmpty();
+
+        otherJvm.record("postgres:16", "jdbc", Duration.ofSeconds(2));
+        assertThat(new StartupHistory(true, historyFile).schedule("postgres:16", "jdbc").getExpectedReadyTime())
+            .as("readiness times are averaged")
+            .hasValueSatisfying(it -> assertThat(it).isBetween(Duration.ofSeconds(2), Duration.ofSeconds(4)));
+    }
+
+    @Test
+    public void shouldNeitherRecordNorScheduleWhenDisabled() {
+        Path historyFile = temporaryFolder.getRoot().toPath().resolve("history.properties");
+        StartupHistory history = new StartupHistory(false, historyFile);
+
+        history.record("postgres:16", "jdbc", Duration.ofSeconds(4));
+
+        assertThat(history.schedule("postgres:16", "jdbc").getExpectedReadyTime())
+            .as("probes are made at fixed intervals")
+            .isEmpty();
+        assertThat(historyFile).doesNotExist();
+    }
+}
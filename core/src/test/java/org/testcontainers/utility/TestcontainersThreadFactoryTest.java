@@ -0,0 +1,49 @@
+package org.testcontainers.utility;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestcontainersThreadFactoryTest {
+
+    @Rule
+    public MockTestcontainersConfigurationRule config = new MockTestcontainersConfigurationRule();
+
+    @Test
+    public void shouldCreateNamedDaemonThreads() {
+        Mockito.doReturn(false).when(TestcontainersConfiguration.getInstance()).isVirtualThreadsEnabled();
+
+        TestcontainersThreadFactory factory = TestcontainersThreadFactory.of("testcontainers-test-");
+        Thread first = factory.newThread(() -> {});
+        Thread second = factory.newThread(() -> {});
+
+        assertThat(factory.isVirtual()).isFalse();
+        assertThat(first.isDaemon()).isTrue();
+        assertThat(first.getName()).isEqualTo("testcontainers-test-0");
+        assertThat(second.getName()).isEqualTo("testcontainers-test-1");
+    }
+
+    @Test
+    public void shouldCreateVirtualThreadsOnlyWhereSupported() {
+        Mockito.doReturn(true).when(TestcontainersConfiguration.getInstance()).isVirtualThreadsEnabled();
+
+        TestcontainersThreadFactory factory = TestcontainersThreadFactory.of("testcontainers-test-");
+        Thread thread = factory.newThread(() -> {});
+
+        // falls back to platform threads before Java 21
+        assertThat(factory.isVirtual()).isEqualTo(supportsVirtualThreads());
+        assertThat(thread.isDaemon()).isTrue();
+        assertThat(thread.getName()).isEqualTo("testcontainers-test-0");
+    }
+
+    private static boolean supportsVirtualThreads() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
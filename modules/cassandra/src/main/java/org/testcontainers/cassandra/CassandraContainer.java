@@ -1,6 +1,7 @@
 package org.testcontainers.cassandra;
 
 import com.github.dockerjava.api.command.InspectContainerResponse;
+import org.testcontainers.UnstableAPI;
 import org.testcontainers.cassandra.delegate.CassandraDatabaseDelegate;
 import org.testcontainers.cassandra.wait.CassandraQueryWaitStrategy;
 import org.testcontainers.containers.GenericContainer;
@@ -132,6 +133,20 @@ public class CassandraContainer extends GenericContainer<CassandraContainer> {
         return self();
     }
 
+    /**
+     * Trades durability for speed: keeps the data directory in memory (tmpfs), uses a single token and skips
+     * the fsync of system tables. Data is lost when the container stops.
+     *
+     * @return this
+     */
+    @UnstableAPI
+    public CassandraContainer withFastTestProfile() {
+        addTmpFs("/var/lib/cassandra", "rw");
+        withEnv("CASSANDRA_NUM_TOKENS", "1");
+        withEnv("JVM_OPTS", getEnvMap().getOrDefault("JVM_OPTS", "") + " -Dcassandra.unsafesystem=true");
+        return self();
+    }
+
     /**
      * Get username
      *
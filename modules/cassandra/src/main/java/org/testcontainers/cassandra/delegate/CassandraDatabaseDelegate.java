@@ -12,6 +12,11 @@ import org.testcontainers.delegate.AbstractDatabaseDelegate;
 import org.testcontainers.ext.ScriptUtils.ScriptStatementFailedException;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Cassandra database delegate
@@ -20,6 +25,8 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class CassandraDatabaseDelegate extends AbstractDatabaseDelegate<Void> {
 
+    private static final Duration STATEMENT_TIMEOUT = Duration.ofMinutes(2);
+
     private final ContainerState container;
 
     @Override
@@ -38,29 +45,15 @@ public class CassandraDatabaseDelegate extends AbstractDatabaseDelegate<Void> {
         boolean ignoreFailedDrops
     ) {
         try {
-            // Use cqlsh command directly inside the container to execute statements
-            // See documentation here: https://cassandra.apache.org/doc/stable/cassandra/tools/cqlsh.html
-            String[] cqlshCommand = new String[] { "cqlsh" };
-
-            if (this.container instanceof CassandraContainer) {
-                CassandraContainer cassandraContainer = (CassandraContainer) this.container;
-                String username = cassandraContainer.getUsername();
-                String password = cassandraContainer.getPassword();
-                cqlshCommand = ArrayUtils.addAll(cqlshCommand, "-u", username, "-p", password);
-            }
-
             // If no statement specified, directly execute the script specified into scriptPath (using -f argument),
             // otherwise execute the given statement (using -e argument).
-            String executeArg = "-e";
-            String executeArgValue = statement;
+            Container.ExecResult result;
             if (StringUtils.isBlank(statement)) {
-                executeArg = "-f";
-                executeArgValue = scriptPath;
+                result = cqlsh("-f", scriptPath);
+            } else {
+                result = cqlsh("-e", statement);
             }
-            cqlshCommand = ArrayUtils.addAll(cqlshCommand, executeArg, executeArgValue);
 
-            Container.ExecResult result =
-                this.container.execInContainer(ExecConfig.builder().command(cqlshCommand).build());
             if (result.getExitCode() == 0) {
                 if (StringUtils.isBlank(statement)) {
                     log.info("CQL script {} successfully executed", scriptPath);
@@ -69,13 +62,99 @@ public class CassandraDatabaseDelegate extends AbstractDatabaseDelegate<Void> {
                 }
             } else {
                 log.error("CQL script execution failed with error: \n{}", result.getStderr());
-                throw new ScriptStatementFailedException(statement, lineNumber, scriptPath);
+                if (StringUtils.isBlank(statement)) {
+                    // the statements of the script are unknown, so report the error of cqlsh instead
+                    Matcher matcher = errorPattern(scriptPath).matcher(result.getStderr());
+                    if (matcher.find()) {
+                        throw new ScriptStatementFailedException(
+                            matcher.group(2),
+                            Integer.parseInt(matcher.group(1)),
+                            scriptPath
+                        );
+                    }
+                }
+                throw new ScriptStatementFailedException(statement, lineNumber, scriptPath, result.getStderr());
             }
         } catch (IOException | InterruptedException e) {
             throw new ScriptStatementFailedException(statement, lineNumber, scriptPath, e);
         }
     }
 
+    /**
+     * Executes all statements with a single cqlsh process, instead of starting cqlsh for every statement.
+     * <p>
+     * The statements are passed to cqlsh one at a time, see {@link CqlshSession}, so that the statements after a
+     * failing one are not executed, unless failures are ignored.
+     */
+    @Override
+    public void execute(
+        Iterable<String> statements,
+        String scriptPath,
+        boolean continueOnError,
+        boolean ignoreFailedDrops
+    ) {
+        Iterator<String> iterator = statements.iterator();
+        if (!iterator.hasNext()) {
+            return;
+        }
+
+        String statement = null;
+        int lineNumber = 0;
+        try (CqlshSession session = new CqlshSession(container, STATEMENT_TIMEOUT, cqlshCommand())) {
+            while (iterator.hasNext()) {
+                statement = iterator.next();
+                lineNumber++;
+                String error = session.execute(statement);
+                if (error.isEmpty()) {
+                    log.debug("CQL statement {} was applied", statement);
+                    continue;
+                }
+
+                boolean dropStatement = statement.trim().toLowerCase().startsWith("drop");
+                if (continueOnError || (dropStatement && ignoreFailedDrops)) {
+                    log.warn(
+                        "Failed to execute CQL script statement at line {} of resource {}: {}\n{}",
+                        lineNumber,
+                        scriptPath,
+                        statement,
+                        error
+                    );
+                } else {
+                    log.error("CQL script execution failed with error: \n{}", error);
+                    throw new ScriptStatementFailedException(statement, lineNumber, scriptPath, error);
+                }
+            }
+        } catch (IOException | InterruptedException | TimeoutException e) {
+            throw new ScriptStatementFailedException(statement, lineNumber, scriptPath, e);
+        }
+        log.info("{} CQL statements of {} were executed", lineNumber, scriptPath);
+    }
+
+    private Container.ExecResult cqlsh(String... args) throws IOException, InterruptedException {
+        return this.container.execInContainer(ExecConfig.builder().command(cqlshCommand(args)).build());
+    }
+
+    private String[] cqlshCommand(String... args) {
+        // Use cqlsh command directly inside the container to execute statements
+        // See documentation here: https://cassandra.apache.org/doc/stable/cassandra/tools/cqlsh.html
+        String[] cqlshCommand = new String[] { "cqlsh" };
+
+        if (this.container instanceof CassandraContainer) {
+            CassandraContainer cassandraContainer = (CassandraContainer) this.container;
+            String username = cassandraContainer.getUsername();
+            String password = cassandraContainer.getPassword();
+            cqlshCommand = ArrayUtils.addAll(cqlshCommand, "-u", username, "-p", password);
+        }
+        return ArrayUtils.addAll(cqlshCommand, args);
+    }
+
+    /**
+     * cqlsh reports errors in script files as {@code <file>:<line>:<message>}.
+     */
+    private static Pattern errorPattern(String scriptPath) {
+        return Pattern.compile(Pattern.quote(scriptPath) + ":(\\d+):(.*)");
+    }
+
     @Override
     protected void closeConnectionQuietly(Void session) {
         // Nothing to do here, because we run scripts using cqlsh command directly in the container.
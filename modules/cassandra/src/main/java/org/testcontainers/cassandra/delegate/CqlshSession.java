@@ -0,0 +1,102 @@
+package org.testcontainers.cassandra.delegate;
+
+import org.testcontainers.containers.ContainerState;
+import org.testcontainers.containers.ExecConfig;
+import org.testcontainers.containers.InteractiveExec;
+import org.testcontainers.containers.output.OutputFrame;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A cqlsh process that stays attached to a running container and executes statements one after another.
+ * <p>
+ * cqlsh does not stop at a failing statement of a script file. A session writes one statement at a time to the stdin
+ * of cqlsh instead, followed by {@code USE} of a keyspace that does not exist. Once cqlsh reports that keyspace as
+ * missing, it is done with the statement, and anything it reported before is the error of the statement.
+ * A session must be closed after use.
+ */
+class CqlshSession implements AutoCloseable {
+
+    // an unquoted keyspace name, at most 48 characters long
+    private final String marker = "tc_sync_" + UUID.randomUUID().toString().replace("-", "");
+
+    private final Duration timeout;
+
+    private final InteractiveExec cqlsh;
+
+    /**
+     * Starts cqlsh and waits until it accepts statements.
+     *
+     * @param container the container to run cqlsh in
+     * @param timeout how long to wait for cqlsh to start, and to execute each statement
+     * @param command the cqlsh command, reading statements from stdin
+     * @throws IOException if cqlsh ends before it accepts statements
+     * @throws InterruptedException if the thread waiting for cqlsh is interrupted
+     * @throws TimeoutException if cqlsh does not accept statements in time
+     */
+    CqlshSession(ContainerState container, Duration timeout, String... command)
+        throws IOException, InterruptedException, TimeoutException {
+        this.timeout = timeout;
+        this.cqlsh =
+            new InteractiveExec(
+                container.getDockerClient(),
+                container.getContainerId(),
+                container.getContainerInfo().getName(),
+                StandardCharsets.UTF_8,
+                ExecConfig
+                    .builder()
+                    .command(command)
+                    // report every error right away, and not once the output buffer of Python is full
+                    .envVars(Collections.singletonMap("PYTHONUNBUFFERED", "1"))
+                    .build()
+            );
+
+        try {
+            // skips the warnings cqlsh may print while starting
+            sync();
+        } catch (Exception e) {
+            cqlsh.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Executes a statement and waits until cqlsh is done with it.
+     *
+     * @param statement the statement, without the terminating semicolon
+     * @return the error reported by cqlsh, or an empty string if the statement was executed successfully
+     * @throws IOException if cqlsh has ended
+     * @throws InterruptedException if the thread waiting for cqlsh is interrupted
+     * @throws TimeoutException if cqlsh is not done with the statement in time
+     */
+    String execute(String statement) throws IOException, InterruptedException, TimeoutException {
+        // the semicolon goes on its own line, so that a comment at the end of the statement cannot swallow it
+        cqlsh.write(statement + "\n;\n");
+        return sync().trim();
+    }
+
+    /**
+     * Ends cqlsh.
+     */
+    @Override
+    public void close() {
+        cqlsh.close();
+    }
+
+    /**
+     * @return what cqlsh reported on stderr since the previous call
+     */
+    private String sync() throws IOException, InterruptedException, TimeoutException {
+        cqlsh.write("USE " + marker + ";\n");
+
+        // the marker is reported within a line, along with the position and the type of the error
+        String reported = cqlsh.readUntil(OutputFrame.OutputType.STDERR, marker, timeout);
+        cqlsh.readUntil(OutputFrame.OutputType.STDERR, "\n", timeout);
+        return reported.substring(0, reported.lastIndexOf('\n') + 1);
+    }
+}
@@ -4,10 +4,16 @@ import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import org.junit.Test;
+import org.testcontainers.cassandra.delegate.CassandraDatabaseDelegate;
 import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.ext.ScriptUtils;
 import org.testcontainers.utility.DockerImageName;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class CassandraContainerTest {
 
@@ -105,6 +111,59 @@ public class CassandraContainerTest {
         }
     }
 
+    @Test
+    public void testInitScriptStatementsWithError() {
+        try (CassandraContainer cassandraContainer = new CassandraContainer(CASSANDRA_IMAGE)) {
+            cassandraContainer.start();
+
+            assertThatThrownBy(() -> {
+                    ScriptUtils.runInitScript(
+                        new CassandraDatabaseDelegate(cassandraContainer),
+                        "initial-with-error.cql"
+                    );
+                })
+                .hasCauseInstanceOf(ScriptUtils.ScriptStatementFailedException.class)
+                .cause()
+                .hasMessageContaining("(initial-with-error.cql:3): CREATE TABLE catalog_category (id bigint)");
+        }
+    }
+
+    @Test
+    public void testStatementsAfterErrorAreNotExecuted() {
+        try (CassandraContainer cassandraContainer = new CassandraContainer(CASSANDRA_IMAGE)) {
+            cassandraContainer.start();
+
+            assertThatThrownBy(() -> {
+                    new CassandraDatabaseDelegate(cassandraContainer)
+                        .execute(statementsWithError(), "statements.cql", false, false);
+                })
+                .isInstanceOf(ScriptUtils.ScriptStatementFailedException.class)
+                .hasMessageContaining("(statements.cql:3): CREATE TABLE catalog_category (id bigint)");
+
+            ResultSet resultSet = performQuery(
+                cassandraContainer,
+                "SELECT keyspace_name FROM system_schema.keyspaces WHERE keyspace_name = 'keyspaceafter'"
+            );
+            assertThat(resultSet.one()).as("Statement after the failing one was not executed").isNull();
+        }
+    }
+
+    @Test
+    public void testStatementsAfterErrorAreExecutedWhenContinuingOnError() {
+        try (CassandraContainer cassandraContainer = new CassandraContainer(CASSANDRA_IMAGE)) {
+            cassandraContainer.start();
+
+            new CassandraDatabaseDelegate(cassandraContainer)
+                .execute(statementsWithError(), "statements.cql", true, false);
+
+            ResultSet resultSet = performQuery(
+                cassandraContainer,
+                "SELECT keyspace_name FROM system_schema.keyspaces WHERE keyspace_name = 'keyspaceafter'"
+            );
+            assertThat(resultSet.one()).as("Statement after the failing one was executed").isNotNull();
+        }
+    }
+
     @Test
     public void testInitScriptWithLegacyCassandra() {
         try (
@@ -158,4 +217,13 @@ public class CassandraContainerTest {
         session.close();
         return rs;
     }
+
+    private static List<String> statementsWithError() {
+        return Arrays.asList(
+            "CREATE KEYSPACE keySpaceTest WITH replication = {'class': 'SimpleStrategy', 'replication_factor' : 1}",
+            "USE keySpaceTest",
+            "CREATE TABLE catalog_category (id bigint)",
+            "CREATE KEYSPACE keySpaceAfter WITH replication = {'class': 'SimpleStrategy', 'replication_factor' : 1}"
+        );
+    }
 }
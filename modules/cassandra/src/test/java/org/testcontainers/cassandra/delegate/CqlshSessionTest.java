@@ -0,0 +1,186 @@
+package org.testcontainers.cassandra.delegate;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.ExecStartCmd;
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.StreamType;
+import org.junit.Before;
+import org.junit.Test;
+import org.testcontainers.containers.ContainerState;
+import org.testcontainers.containers.output.FrameConsumerResultCallback;
+import org.testcontainers.ext.ScriptUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Runs sessions against a fake cqlsh, which reports errors on stderr as cqlsh does when reading from stdin.
+ */
+public class CqlshSessionTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final List<String> executed = new CopyOnWriteArrayList<>();
+
+    private volatile boolean responding = true;
+
+    private ContainerState container;
+
+    @Before
+    public void setUp() {
+        container = mock(ContainerState.class, RETURNS_DEEP_STUBS);
+        DockerClient dockerClient = mock(DockerClient.class, RETURNS_DEEP_STUBS);
+        doReturn(dockerClient).when(container).getDockerClient();
+
+        ExecStartCmd execStartCmd = mock(ExecStartCmd.class, RETURNS_SELF);
+        doReturn(execStartCmd).when(dockerClient).execStartCmd(any());
+        AtomicReference<InputStream> stdin = new AtomicReference<>();
+        doAnswer(invocation -> {
+                stdin.set(invocation.getArgument(0));
+                return execStartCmd;
+            })
+            .when(execStartCmd)
+            .withStdIn(any());
+        doAnswer(invocation -> {
+                FrameConsumerResultCallback callback = invocation.getArgument(0);
+                Thread cqlsh = new Thread(() -> fakeCqlsh(stdin.get(), callback));
+                cqlsh.setDaemon(true);
+                cqlsh.start();
+                return callback;
+            })
+            .when(execStartCmd)
+            .exec(any());
+    }
+
+    @Test
+    public void shouldReportNoErrorForExecutedStatements() throws Exception {
+        try (CqlshSession session = new CqlshSession(container, TIMEOUT, "cqlsh")) {
+            assertThat(session.execute("CREATE KEYSPACE ks")).isEmpty();
+            assertThat(session.execute("INSERT INTO t (id) VALUES (1) -- a comment")).isEmpty();
+        }
+
+        assertThat(executed).containsExactly("CREATE KEYSPACE ks", "INSERT INTO t (id) VALUES (1) -- a comment");
+    }
+
+    @Test
+    public void shouldReportTheErrorOfAFailingStatementOnly() throws Exception {
+        try (CqlshSession session = new CqlshSession(container, TIMEOUT, "cqlsh")) {
+            assertThat(session.execute("bad statement")).isEqualTo("<stdin>:2:SyntaxException: bad input");
+            assertThat(session.execute("CREATE KEYSPACE ks")).isEmpty();
+        }
+
+        assertThat(executed).containsExactly("CREATE KEYSPACE ks");
+    }
+
+    @Test
+    public void shouldTimeOutWhenCqlshDoesNotRespond() {
+        responding = false;
+
+        assertThatThrownBy(() -> new CqlshSession(container, Duration.ofMillis(200), "cqlsh"))
+            .isInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    public void shouldFailWhenCqlshEnds() throws Exception {
+        try (CqlshSession session = new CqlshSession(container, TIMEOUT, "cqlsh")) {
+            assertThatThrownBy(() -> session.execute("exit")).isInstanceOf(IOException.class);
+        }
+    }
+
+    @Test
+    public void delegateShouldStopAtTheFirstFailingStatement() {
+        assertThatThrownBy(() -> {
+                new CassandraDatabaseDelegate(container).execute(statementsWithError(), "statements.cql", false, false);
+            })
+            .isInstanceOf(ScriptUtils.ScriptStatementFailedException.class)
+            .hasMessageContaining("(statements.cql:2): bad statement")
+            .hasMessageContaining("SyntaxException: bad input");
+
+        assertThat(executed).containsExactly("CREATE KEYSPACE ks");
+    }
+
+    @Test
+    public void delegateShouldExecuteTheStatementsAfterAFailingOneWhenContinuingOnError() {
+        new CassandraDatabaseDelegate(container).execute(statementsWithError(), "statements.cql", true, false);
+
+        assertThat(executed).containsExactly("CREATE KEYSPACE ks", "CREATE KEYSPACE after");
+    }
+
+    private static List<String> statementsWithError() {
+        return Arrays.asList("CREATE KEYSPACE ks", "bad statement", "CREATE KEYSPACE after");
+    }
+
+    /**
+     * Prints a warning, then reads statements from stdin and reports errors along with the line of the statement.
+     */
+    private void fakeCqlsh(InputStream stdin, FrameConsumerResultCallback callback) {
+        try {
+            stderr(callback, "Warning: Using a password on the command line interface can be insecure.\n");
+            BufferedReader reader = new BufferedReader(new InputStreamReader(stdin, StandardCharsets.UTF_8));
+            StringBuilder statement = new StringBuilder();
+            int lineNumber = 0;
+            int statementLineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (statement.length() == 0) {
+                    statementLineNumber = lineNumber;
+                }
+                statement.append(line).append('\n');
+                if (!line.trim().endsWith(";")) {
+                    continue;
+                }
+                String cql = statement.toString().trim();
+                cql = cql.substring(0, cql.length() - 1).trim();
+                statement.setLength(0);
+
+                if (cql.isEmpty()) {
+                    continue;
+                } else if (cql.equals("exit")) {
+                    break;
+                } else if (cql.startsWith("USE ")) {
+                    if (responding) {
+                        stderr(
+                            callback,
+                            "<stdin>:" +
+                            statementLineNumber +
+                            ":InvalidRequest: Error from server: code=2200 [Invalid query] message=\"Keyspace '" +
+                            cql.substring(4) +
+                            "' does not exist\"\n"
+                        );
+                    }
+                } else if (cql.startsWith("bad")) {
+                    stderr(callback, "<stdin>:" + statementLineNumber + ":SyntaxException: bad input\n");
+                } else {
+                    executed.add(cql);
+                    callback.onNext(new Frame(StreamType.STDOUT, "\n".getBytes(StandardCharsets.UTF_8)));
+                }
+            }
+            callback.close();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void stderr(FrameConsumerResultCallback callback, String output) {
+        callback.onNext(new Frame(StreamType.STDERR, output.getBytes(StandardCharsets.UTF_8)));
+    }
+}
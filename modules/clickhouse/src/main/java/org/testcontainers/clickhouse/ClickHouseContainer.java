@@ -1,9 +1,11 @@
 package org.testcontainers.clickhouse;
 
+import org.testcontainers.containers.BulkLoadFormat;
 import org.testcontainers.containers.JdbcDatabaseContainer;
 import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.utility.DockerImageName;
 
+import java.sql.SQLException;
 import java.time.Duration;
 import java.util.HashSet;
 import java.util.Set;
@@ -116,6 +118,37 @@ public class ClickHouseContainer extends JdbcDatabaseContainer<ClickHouseContain
         return TEST_QUERY;
     }
 
+    @Override
+    protected String getBulkLoadDirectory() {
+        // the file() table function only reads from user_files_path
+        return "/var/lib/clickhouse/user_files";
+    }
+
+    @Override
+    protected long bulkLoad(String table, String containerPath, BulkLoadFormat format) throws SQLException {
+        String clickHouseFormat;
+        switch (format) {
+            case CSV:
+                clickHouseFormat = "CSV";
+                break;
+            case CSV_WITH_HEADER:
+                clickHouseFormat = "CSVWithNames";
+                break;
+            case TSV:
+                clickHouseFormat = "TabSeparated";
+                break;
+            case PARQUET:
+                clickHouseFormat = "Parquet";
+                break;
+            default:
+                throw unsupportedBulkLoadFormat(format);
+        }
+        String fileName = containerPath.substring(containerPath.lastIndexOf('/') + 1);
+        return executeBulkLoad(
+            "INSERT INTO " + table + " SELECT * FROM file('" + fileName + "', '" + clickHouseFormat + "')"
+        );
+    }
+
     @Override
     public ClickHouseContainer withUsername(String username) {
         this.username = username;
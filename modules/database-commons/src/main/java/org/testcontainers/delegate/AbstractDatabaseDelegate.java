@@ -31,6 +31,16 @@ public abstract class AbstractDatabaseDelegate<CONNECTION> implements DatabaseDe
         String scriptPath,
         boolean continueOnError,
         boolean ignoreFailedDrops
+    ) {
+        execute((Iterable<String>) statements, scriptPath, continueOnError, ignoreFailedDrops);
+    }
+
+    @Override
+    public void execute(
+        Iterable<String> statements,
+        String scriptPath,
+        boolean continueOnError,
+        boolean ignoreFailedDrops
     ) {
         int lineNumber = 0;
         for (String statement : statements) {
@@ -1,6 +1,8 @@
 package org.testcontainers.delegate;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Database delegate
@@ -24,6 +26,21 @@ public interface DatabaseDelegate extends AutoCloseable {
      */
     void execute(Collection<String> statements, String scriptPath, boolean continueOnError, boolean ignoreFailedDrops);
 
+    /**
+     * Execute statements that are produced lazily, e.g. while a large script is parsed.
+     * Delegates that can execute statements one by one should override this to avoid collecting them first.
+     */
+    default void execute(
+        Iterable<String> statements,
+        String scriptPath,
+        boolean continueOnError,
+        boolean ignoreFailedDrops
+    ) {
+        List<String> collected = new ArrayList<>();
+        statements.forEach(collected::add);
+        execute(collected, scriptPath, continueOnError, ignoreFailedDrops);
+    }
+
     /**
      * Close connection to the database
      *
@@ -0,0 +1,85 @@
+package org.testcontainers.ext;
+
+import lombok.SneakyThrows;
+import org.testcontainers.utility.TestcontainersThreadFactory;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Parses statements on a background thread while the caller executes the previous ones.
+ * At most {@value #CAPACITY} parsed statements are buffered.
+ */
+class ScriptParsingPipeline implements Iterator<String>, AutoCloseable {
+
+    private static final int CAPACITY = 1024;
+
+    private static final Object END_OF_SCRIPT = new Object();
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(
+        TestcontainersThreadFactory.of("testcontainers-script-parser-")
+    );
+
+    private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(CAPACITY);
+
+    private final Future<?> parser;
+
+    private volatile Throwable failure;
+
+    private Object next;
+
+    ScriptParsingPipeline(Iterator<String> statements) {
+        parser =
+            EXECUTOR.submit(() -> {
+                try {
+                    try {
+                        while (statements.hasNext()) {
+                            queue.put(statements.next());
+                        }
+                    } catch (RuntimeException | Error e) {
+                        failure = e;
+                    }
+                    queue.put(END_OF_SCRIPT);
+                } catch (InterruptedException e) {
+                    // the pipeline was closed
+                }
+            });
+    }
+
+    @Override
+    @SneakyThrows(InterruptedException.class)
+    public boolean hasNext() {
+        if (next == null) {
+            next = queue.take();
+        }
+        if (next == END_OF_SCRIPT) {
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            } else if (failure != null) {
+                throw (RuntimeException) failure;
+            }
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String statement = (String) next;
+        next = null;
+        return statement;
+    }
+
+    @Override
+    public void close() {
+        parser.cancel(true);
+    }
+}
@@ -1,20 +1,28 @@
 package org.testcontainers.ext;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
 
 /**
  * Rough lexical parser for SQL scripts.
+ * <p>
+ * The script is read lazily, so that scripts of any size can be scanned with a small buffer. Input that was already
+ * scanned is only kept until the first separator was found, so that a script without separators can be scanned
+ * again with another separator (see {@link #getScannedScript()}).
  */
-@RequiredArgsConstructor
 class ScriptScanner {
 
+    private static final int READ_SIZE = 8192;
+
+    private static final int COMPACT_THRESHOLD = 64 * 1024;
+
     private final String resource;
 
-    private final String script;
+    private final Reader reader;
 
     private final String separator;
 
@@ -24,36 +32,130 @@ class ScriptScanner {
 
     private final String blockCommentEndDelimiter;
 
-    private final Pattern eol = Pattern.compile("[\n\r]+");
-
-    private final Pattern whitespace = Pattern.compile("\\s+");
+    private final StringBuilder buffer = new StringBuilder();
 
-    private final Pattern identifier = Pattern.compile("[a-z][a-z0-9_$]*", Pattern.CASE_INSENSITIVE);
+    private final char[] readBuffer = new char[READ_SIZE];
 
-    private final Pattern dollarQuotedStringDelimiter = Pattern.compile("\\$\\w*\\$");
+    private boolean endOfInput;
 
     private int offset;
 
+    @Getter
+    private boolean separatorSeen;
+
     @Getter
     private String currentMatch;
 
-    private boolean matches(String substring) {
-        if (script.startsWith(substring, offset)) {
-            currentMatch = substring;
-            offset += currentMatch.length();
-            return true;
-        } else {
-            currentMatch = "";
+    ScriptScanner(
+        String resource,
+        String script,
+        String separator,
+        String commentPrefix,
+        String blockCommentStartDelimiter,
+        String blockCommentEndDelimiter
+    ) {
+        this(
+            resource,
+            new StringReader(script),
+            separator,
+            commentPrefix,
+            blockCommentStartDelimiter,
+            blockCommentEndDelimiter
+        );
+    }
+
+    ScriptScanner(
+        String resource,
+        Reader reader,
+        String separator,
+        String commentPrefix,
+        String blockCommentStartDelimiter,
+        String blockCommentEndDelimiter
+    ) {
+        this.resource = resource;
+        this.reader = reader;
+        this.separator = separator;
+        this.commentPrefix = commentPrefix;
+        this.blockCommentStartDelimiter = blockCommentStartDelimiter;
+        this.blockCommentEndDelimiter = blockCommentEndDelimiter;
+    }
+
+    /**
+     * @return the whole script scanned so far, only available as long as no separator was found
+     */
+    String getScannedScript() {
+        if (separatorSeen) {
+            throw new IllegalStateException("The script is not retained once a separator was found");
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * Makes sure that {@code count} characters after the offset are buffered, unless the input ends before.
+     *
+     * @return whether {@code count} characters are available
+     */
+    private boolean available(int count) {
+        while (buffer.length() - offset < count) {
+            if (endOfInput) {
+                return false;
+            }
+            try {
+                int read = reader.read(readBuffer);
+                if (read < 0) {
+                    endOfInput = true;
+                } else {
+                    buffer.append(readBuffer, 0, read);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read script " + resource, e);
+            }
+        }
+        return true;
+    }
+
+    private char charAt(int index) {
+        return buffer.charAt(offset + index);
+    }
+
+    private boolean startsWith(String prefix, int index) {
+        if (!available(index + prefix.length())) {
             return false;
         }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (charAt(index + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the index of {@code str} at or after {@code fromIndex}, relative to the offset, or -1 if not found
+     */
+    private int indexOf(String str, int fromIndex) {
+        int from = offset + fromIndex;
+        while (true) {
+            int found = buffer.indexOf(str, from);
+            if (found >= 0) {
+                return found - offset;
+            }
+            int buffered = buffer.length() - offset;
+            if (!available(buffered + 1)) {
+                return -1;
+            }
+            from = Math.max(from, offset + buffered - str.length() + 1);
+        }
     }
 
-    private boolean matches(Pattern regexp) {
-        Matcher m = regexp.matcher(script);
-        m.region(offset, script.length());
-        if (m.lookingAt()) {
-            currentMatch = m.group();
-            offset = m.end();
+    private void consume(int length) {
+        currentMatch = buffer.substring(offset, offset + length);
+        offset += length;
+    }
+
+    private boolean matches(String substring) {
+        if (startsWith(substring, 0)) {
+            consume(substring.length());
             return true;
         } else {
             currentMatch = "";
@@ -63,15 +165,15 @@ class ScriptScanner {
 
     private boolean matchesSingleLineComment() {
         /* Matches from commentPrefix to the EOL or end of script */
-        if (matches(commentPrefix)) {
-            Matcher m = eol.matcher(script);
-            if (m.find(offset)) {
-                currentMatch = commentPrefix + script.substring(offset, m.end());
-                offset = m.end();
-            } else {
-                currentMatch = commentPrefix + script.substring(offset);
-                offset = script.length();
+        if (startsWith(commentPrefix, 0)) {
+            int end = commentPrefix.length();
+            while (available(end + 1) && !isEol(charAt(end))) {
+                end++;
+            }
+            while (available(end + 1) && isEol(charAt(end))) {
+                end++;
             }
+            consume(end);
             return true;
         }
         return false;
@@ -80,35 +182,32 @@ class ScriptScanner {
     private boolean matchesMultilineComment() {
         /* Matches from blockCommentStartDelimiter to the next blockCommentEndDelimiter.
          * Error, if blockCommentEndDelimiter is not found. */
-        if (matches(blockCommentStartDelimiter)) {
-            int end = script.indexOf(blockCommentEndDelimiter, offset);
+        if (startsWith(blockCommentStartDelimiter, 0)) {
+            int end = indexOf(blockCommentEndDelimiter, blockCommentStartDelimiter.length());
             if (end < 0) {
                 throw new ScriptUtils.ScriptParseException(
                     String.format("Missing block comment end delimiter [%s].", blockCommentEndDelimiter),
                     resource
                 );
             }
-            end += blockCommentEndDelimiter.length();
-            currentMatch = blockCommentStartDelimiter + script.substring(offset, end);
-            offset = end;
+            consume(end + blockCommentEndDelimiter.length());
             return true;
         }
         return false;
     }
 
     private boolean matchesQuotedString(final char quote) {
-        if (script.charAt(offset) == quote) {
+        if (charAt(0) == quote) {
             boolean escaped = false;
-            for (int i = offset + 1; i < script.length(); i++) {
-                char c = script.charAt(i);
+            for (int i = 1; available(i + 1); i++) {
+                char c = charAt(i);
                 if (escaped) {
                     //just skip the escaped character and drop the flag
                     escaped = false;
                 } else if (c == '\\') {
                     escaped = true;
                 } else if (c == quote) {
-                    currentMatch = script.substring(offset, i + 1);
-                    offset = i + 1;
+                    consume(i + 1);
                     return true;
                 }
             }
@@ -118,26 +217,59 @@ class ScriptScanner {
 
     private boolean matchesDollarQuotedString() {
         //Matches $<tag>$ .... $<tag>$
-        if (matches(dollarQuotedStringDelimiter)) {
-            String delimiter = currentMatch;
-            int end = script.indexOf(delimiter, offset);
-            if (end < 0) {
-                throw new ScriptUtils.ScriptParseException(
-                    String.format("Unclosed dollar quoted string [%s].", delimiter),
-                    resource
-                );
-            }
-            end += delimiter.length();
-            currentMatch = delimiter + script.substring(offset, end);
-            offset = end;
-            return true;
+        if (charAt(0) != '$') {
+            return false;
         }
-        return false;
+        int delimiterEnd = 1;
+        while (available(delimiterEnd + 1) && isWordCharacter(charAt(delimiterEnd))) {
+            delimiterEnd++;
+        }
+        if (!available(delimiterEnd + 1) || charAt(delimiterEnd) != '$') {
+            return false;
+        }
+        delimiterEnd++;
+
+        String delimiter = buffer.substring(offset, offset + delimiterEnd);
+        int end = indexOf(delimiter, delimiterEnd);
+        if (end < 0) {
+            throw new ScriptUtils.ScriptParseException(
+                String.format("Unclosed dollar quoted string [%s].", delimiter),
+                resource
+            );
+        }
+        consume(end + delimiter.length());
+        return true;
+    }
+
+    private boolean matchesIdentifier() {
+        if (!isAsciiLetter(charAt(0))) {
+            return false;
+        }
+        int end = 1;
+        while (available(end + 1) && isIdentifierPart(charAt(end))) {
+            end++;
+        }
+        consume(end);
+        return true;
+    }
+
+    private boolean matchesWhitespace() {
+        if (!isWhitespace(charAt(0))) {
+            return false;
+        }
+        int end = 1;
+        while (available(end + 1) && isWhitespace(charAt(end))) {
+            end++;
+        }
+        consume(end);
+        return true;
     }
 
     Lexem next() {
-        if (offset < script.length()) {
+        compact();
+        if (available(1)) {
             if (matches(separator)) {
+                separatorSeen = true;
                 return Lexem.SEPARATOR;
             } else if (matchesSingleLineComment() || matchesMultilineComment()) {
                 return Lexem.COMMENT;
@@ -148,12 +280,12 @@ class ScriptScanner {
                 matchesDollarQuotedString()
             ) {
                 return Lexem.QUOTED_STRING;
-            } else if (matches(identifier)) {
+            } else if (matchesIdentifier()) {
                 return Lexem.IDENTIFIER;
-            } else if (matches(whitespace)) {
+            } else if (matchesWhitespace()) {
                 return Lexem.WHITESPACE;
             } else {
-                currentMatch = String.valueOf(script.charAt(offset++));
+                consume(1);
                 return Lexem.OTHER;
             }
         } else {
@@ -161,6 +293,37 @@ class ScriptScanner {
         }
     }
 
+    /**
+     * Drops the scanned input from the buffer, once it is no longer needed.
+     */
+    private void compact() {
+        if (separatorSeen && offset > COMPACT_THRESHOLD) {
+            buffer.delete(0, offset);
+            offset = 0;
+        }
+    }
+
+    private static boolean isEol(char c) {
+        return c == '\n' || c == '\r';
+    }
+
+    private static boolean isWhitespace(char c) {
+        // same as \s in regular expressions
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isWordCharacter(char c) {
+        return isAsciiLetter(c) || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return isWordCharacter(c) || c == '$';
+    }
+
     enum Lexem {
         SEPARATOR,
         COMMENT,
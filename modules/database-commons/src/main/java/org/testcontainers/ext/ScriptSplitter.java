@@ -4,54 +4,76 @@ import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.testcontainers.ext.ScriptScanner.Lexem;
 
-import java.util.List;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
  * Performs splitting of an SQL script into statements including
- * basic clean-up.
+ * basic clean-up. Statements are split lazily, as they are requested.
  */
 @RequiredArgsConstructor
-class ScriptSplitter {
+class ScriptSplitter implements Iterator<String> {
 
     private final ScriptScanner scanner;
 
-    private final List<String> statements;
+    private final Deque<String> statements = new ArrayDeque<>();
 
     private final StringBuilder sb = new StringBuilder();
 
+    private boolean endOfScript = false;
+
+    @Override
+    public boolean hasNext() {
+        while (statements.isEmpty() && !endOfScript) {
+            splitNext();
+        }
+        return !statements.isEmpty();
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return statements.poll();
+    }
+
     /**
-     * Standard parsing:
+     * Standard parsing, one lexem at a time:
      * 1. Remove comments
      * 2. Shrink whitespace and eols
      * 3. Split on separator
      */
-    void split() {
-        Lexem l;
-        while ((l = scanner.next()) != Lexem.EOF) {
-            switch (l) {
-                case SEPARATOR:
+    private void splitNext() {
+        Lexem l = scanner.next();
+        switch (l) {
+            case EOF:
+                flushStringBuilder();
+                endOfScript = true;
+                break;
+            case SEPARATOR:
+                flushStringBuilder();
+                break;
+            case COMMENT:
+                //skip
+                break;
+            case WHITESPACE:
+                if (sb.length() == 0 || sb.charAt(sb.length() - 1) != ' ') {
+                    sb.append(' ');
+                }
+                break;
+            case IDENTIFIER:
+                appendMatch();
+                if ("begin".equalsIgnoreCase(scanner.getCurrentMatch())) {
+                    compoundStatement(false);
                     flushStringBuilder();
-                    break;
-                case COMMENT:
-                    //skip
-                    break;
-                case WHITESPACE:
-                    if (!sb.toString().endsWith(" ")) {
-                        sb.append(' ');
-                    }
-                    break;
-                case IDENTIFIER:
-                    appendMatch();
-                    if ("begin".equalsIgnoreCase(scanner.getCurrentMatch())) {
-                        compoundStatement(false);
-                        flushStringBuilder();
-                    }
-                    break;
-                default:
-                    appendMatch();
-            }
+                }
+                break;
+            default:
+                appendMatch();
         }
-        flushStringBuilder();
     }
 
     /**
@@ -0,0 +1,94 @@
+package org.testcontainers.ext;
+
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazily splits a script into statements. Like {@link ScriptUtils#executeDatabaseScript}, the script is split on
+ * {@link ScriptUtils#FALLBACK_STATEMENT_SEPARATOR} if it does not contain the given separator at all.
+ */
+class ScriptStatementIterator implements Iterator<String> {
+
+    private final String resource;
+
+    private final String commentPrefix;
+
+    private final String blockCommentStartDelimiter;
+
+    private final String blockCommentEndDelimiter;
+
+    private ScriptScanner scanner;
+
+    private ScriptSplitter splitter;
+
+    // statements before the first separator, held back until it is known whether the script contains separators
+    private final Deque<String> heldBack = new ArrayDeque<>();
+
+    private boolean separatorResolved;
+
+    ScriptStatementIterator(
+        String resource,
+        Reader script,
+        String separator,
+        String commentPrefix,
+        String blockCommentStartDelimiter,
+        String blockCommentEndDelimiter
+    ) {
+        this.resource = resource;
+        this.commentPrefix = commentPrefix;
+        this.blockCommentStartDelimiter = blockCommentStartDelimiter;
+        this.blockCommentEndDelimiter = blockCommentEndDelimiter;
+        this.scanner =
+            new ScriptScanner(
+                resource,
+                script,
+                separator,
+                commentPrefix,
+                blockCommentStartDelimiter,
+                blockCommentEndDelimiter
+            );
+        this.splitter = new ScriptSplitter(scanner);
+        this.separatorResolved = ScriptUtils.FALLBACK_STATEMENT_SEPARATOR.equals(separator);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!separatorResolved) {
+            resolveSeparator();
+        }
+        return !heldBack.isEmpty() || splitter.hasNext();
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return heldBack.isEmpty() ? splitter.next() : heldBack.poll();
+    }
+
+    private void resolveSeparator() {
+        while (!scanner.isSeparatorSeen() && splitter.hasNext()) {
+            heldBack.add(splitter.next());
+        }
+
+        if (!scanner.isSeparatorSeen()) {
+            // the scanner retains scripts without separators, so they can be split again
+            heldBack.clear();
+            scanner =
+                new ScriptScanner(
+                    resource,
+                    scanner.getScannedScript(),
+                    ScriptUtils.FALLBACK_STATEMENT_SEPARATOR,
+                    commentPrefix,
+                    blockCommentStartDelimiter,
+                    blockCommentEndDelimiter
+                );
+            splitter = new ScriptSplitter(scanner);
+        }
+        separatorResolved = true;
+    }
+}
@@ -16,16 +16,17 @@
 
 package org.testcontainers.ext;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.delegate.DatabaseDelegate;
 
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -128,10 +129,9 @@ public abstract class ScriptUtils {
                 commentPrefix,
                 blockCommentStartDelimiter,
                 blockCommentEndDelimiter
-            ),
-            statements
+            )
         )
-            .split();
+            .forEachRemaining(statements::add);
     }
 
     private static void checkArgument(boolean expression, String errorMessage) {
@@ -209,8 +209,9 @@ public abstract class ScriptUtils {
                     );
                 }
             }
-            String scripts = IOUtils.toString(resource, StandardCharsets.UTF_8);
-            executeDatabaseScript(databaseDelegate, initScriptPath, scripts);
+            try (Reader script = new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8)) {
+                executeDatabaseScript(databaseDelegate, initScriptPath, script);
+            }
         } catch (IOException e) {
             LOGGER.warn("Could not load classpath init script: {}", initScriptPath);
             throw new ScriptLoadException("Could not load classpath init script: " + initScriptPath, e);
@@ -268,6 +269,56 @@ public abstract class ScriptUtils {
         String separator,
         String blockCommentStartDelimiter,
         String blockCommentEndDelimiter
+    ) throws ScriptException {
+        executeDatabaseScript(
+            databaseDelegate,
+            scriptPath,
+            new StringReader(script),
+            continueOnError,
+            ignoreFailedDrops,
+            commentPrefix,
+            separator,
+            blockCommentStartDelimiter,
+            blockCommentEndDelimiter
+        );
+    }
+
+    /**
+     * Execute the database script read from the given reader, see
+     * {@link #executeDatabaseScript(DatabaseDelegate, String, Reader, boolean, boolean, String, String, String, String)}.
+     */
+    public static void executeDatabaseScript(DatabaseDelegate databaseDelegate, String scriptPath, Reader script)
+        throws ScriptException {
+        executeDatabaseScript(
+            databaseDelegate,
+            scriptPath,
+            script,
+            false,
+            false,
+            DEFAULT_COMMENT_PREFIX,
+            DEFAULT_STATEMENT_SEPARATOR,
+            DEFAULT_BLOCK_COMMENT_START_DELIMITER,
+            DEFAULT_BLOCK_COMMENT_END_DELIMITER
+        );
+    }
+
+    /**
+     * Execute the database script read from the given reader.
+     * <p>The script is read and split into statements on a background thread while the
+     * statements are executed, so that scripts of any size can be executed with constant memory.
+     * The reader is not closed.
+     * @see #executeDatabaseScript(DatabaseDelegate, String, String, boolean, boolean, String, String, String, String)
+     */
+    public static void executeDatabaseScript(
+        DatabaseDelegate databaseDelegate,
+        String scriptPath,
+        Reader script,
+        boolean continueOnError,
+        boolean ignoreFailedDrops,
+        String commentPrefix,
+        String separator,
+        String blockCommentStartDelimiter,
+        String blockCommentEndDelimiter
     ) throws ScriptException {
         try {
             if (LOGGER.isInfoEnabled()) {
@@ -275,36 +326,35 @@ public abstract class ScriptUtils {
             }
 
             long startTime = System.nanoTime();
-            List<String> statements = new LinkedList<>();
 
             if (separator == null) {
                 separator = DEFAULT_STATEMENT_SEPARATOR;
             }
-            if (
-                !containsSqlScriptDelimiters(
-                    scriptPath,
-                    script,
-                    commentPrefix,
-                    separator,
-                    blockCommentStartDelimiter,
-                    blockCommentEndDelimiter
-                )
-            ) {
-                separator = FALLBACK_STATEMENT_SEPARATOR;
-            }
+            checkArgument(StringUtils.isNotEmpty(commentPrefix), "commentPrefix must not be null or empty");
+            checkArgument(
+                StringUtils.isNotEmpty(blockCommentStartDelimiter),
+                "blockCommentStartDelimiter must not be null or empty"
+            );
+            checkArgument(
+                StringUtils.isNotEmpty(blockCommentEndDelimiter),
+                "blockCommentEndDelimiter must not be null or empty"
+            );
 
-            splitSqlScript(
+            ScriptStatementIterator statements = new ScriptStatementIterator(
                 scriptPath,
                 script,
                 separator,
                 commentPrefix,
                 blockCommentStartDelimiter,
-                blockCommentEndDelimiter,
-                statements
+                blockCommentEndDelimiter
             );
 
-            try (DatabaseDelegate closeableDelegate = databaseDelegate) {
-                closeableDelegate.execute(statements, scriptPath, continueOnError, ignoreFailedDrops);
+            try (
+                DatabaseDelegate closeableDelegate = databaseDelegate;
+                ScriptParsingPipeline pipeline = new ScriptParsingPipeline(statements)
+            ) {
+                Iterable<String> parsedStatements = () -> pipeline;
+                closeableDelegate.execute(parsedStatements, scriptPath, continueOnError, ignoreFailedDrops);
             }
 
             long elapsedTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
@@ -317,7 +367,7 @@ public abstract class ScriptUtils {
             }
 
             throw new UncategorizedScriptException(
-                "Failed to execute database script from resource [" + script + "]",
+                "Failed to execute database script from resource [" + scriptPath + "]",
                 ex
             );
         }
@@ -344,12 +394,19 @@ public abstract class ScriptUtils {
     public static class ScriptStatementFailedException extends RuntimeException {
 
         public ScriptStatementFailedException(String statement, int lineNumber, String scriptPath) {
-            this(statement, lineNumber, scriptPath, null);
+            this(statement, lineNumber, scriptPath, (Exception) null);
         }
 
         public ScriptStatementFailedException(String statement, int lineNumber, String scriptPath, Exception ex) {
             super(String.format("Script execution failed (%s:%d): %s", scriptPath, lineNumber, statement), ex);
         }
+
+        /**
+         * @param error the error that the database reported for the statement, added to the message
+         */
+        public ScriptStatementFailedException(String statement, int lineNumber, String scriptPath, String error) {
+            super(String.format("Script execution failed (%s:%d): %s%n%s", scriptPath, lineNumber, statement, error));
+        }
     }
 
     public static class UncategorizedScriptException extends RuntimeException {
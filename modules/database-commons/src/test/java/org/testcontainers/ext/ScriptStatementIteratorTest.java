@@ -0,0 +1,121 @@
+package org.testcontainers.ext;
+
+import org.junit.Test;
+import org.testcontainers.delegate.AbstractDatabaseDelegate;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ScriptStatementIteratorTest {
+
+    private static final String SCRIPT =
+        "CREATE TABLE foo (id INT, text VARCHAR(255)); -- a comment; with a separator\n" +
+        "INSERT INTO foo VALUES (1, 'a ; separator in a string');\n" +
+        "/* a block comment; with a separator */\n" +
+        "CREATE FUNCTION bar() RETURNS INT AS $body$ BEGIN RETURN 1; END; $body$ LANGUAGE plpgsql;\n" +
+        "CREATE PROCEDURE baz() BEGIN SELECT 1; END;\n" +
+        "SELECT   *\n\n FROM foo";
+
+    @Test
+    public void shouldSplitLikeTheStringBasedSplitter() {
+        List<String> expected = new ArrayList<>();
+        ScriptUtils.splitSqlScript(
+            "script.sql",
+            SCRIPT,
+            ScriptUtils.DEFAULT_STATEMENT_SEPARATOR,
+            ScriptUtils.DEFAULT_COMMENT_PREFIX,
+            ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER,
+            ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER,
+            expected
+        );
+
+        assertThat(split(new OneCharacterReader(SCRIPT), ScriptUtils.DEFAULT_STATEMENT_SEPARATOR))
+            .hasSize(5)
+            .isEqualTo(expected);
+    }
+
+    @Test
+    public void shouldFallBackToNewLinesWithoutSeparators() {
+        String script = "SELECT 1\nSELECT 2\n\n   SELECT 3";
+
+        assertThat(split(new OneCharacterReader(script), ScriptUtils.DEFAULT_STATEMENT_SEPARATOR))
+            .containsExactly("SELECT 1", "SELECT 2", "SELECT 3");
+    }
+
+    @Test
+    public void shouldExecuteLargeScriptsStatementByStatement() throws Exception {
+        int statementCount = 200_000;
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < statementCount; i++) {
+            script.append("INSERT INTO foo VALUES (").append(i).append(", 'value ").append(i).append("');\n");
+        }
+        CountingDelegate delegate = new CountingDelegate();
+
+        ScriptUtils.executeDatabaseScript(delegate, "large.sql", new StringReader(script.toString()));
+
+        assertThat(delegate.count).isEqualTo(statementCount);
+        assertThat(delegate.last).isEqualTo("INSERT INTO foo VALUES (199999, 'value 199999')");
+    }
+
+    private static List<String> split(Reader script, String separator) {
+        List<String> statements = new ArrayList<>();
+        new ScriptStatementIterator(
+            "script.sql",
+            script,
+            separator,
+            ScriptUtils.DEFAULT_COMMENT_PREFIX,
+            ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER,
+            ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER
+        )
+            .forEachRemaining(statements::add);
+        return statements;
+    }
+
+    /**
+     * Returns a single character per read, so that every token crosses a buffer boundary.
+     */
+    private static class OneCharacterReader extends FilterReader {
+
+        OneCharacterReader(String script) {
+            super(new StringReader(script));
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            return super.read(cbuf, off, Math.min(len, 1));
+        }
+    }
+
+    private static class CountingDelegate extends AbstractDatabaseDelegate<Void> {
+
+        private int count;
+
+        private String last;
+
+        @Override
+        public void execute(
+            String statement,
+            String scriptPath,
+            int lineNumber,
+            boolean continueOnError,
+            boolean ignoreFailedDrops
+        ) {
+            count++;
+            last = statement;
+        }
+
+        @Override
+        protected void closeConnectionQuietly(Void connection) {}
+
+        @Override
+        protected Void createNewConnection() {
+            return null;
+        }
+    }
+}
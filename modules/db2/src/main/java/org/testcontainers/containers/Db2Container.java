@@ -5,6 +5,10 @@ import org.testcontainers.containers.wait.strategy.LogMessageWaitStrategy;
 import org.testcontainers.utility.DockerImageName;
 import org.testcontainers.utility.LicenseAcceptance;
 
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.Set;
@@ -160,4 +164,31 @@ public class Db2Container extends JdbcDatabaseContainer<Db2Container> {
     protected String getTestQueryString() {
         return "SELECT 1 FROM SYSIBM.SYSDUMMY1";
     }
+
+    @Override
+    protected long bulkLoad(String table, String containerPath, BulkLoadFormat format) throws SQLException {
+        String fileType;
+        switch (format) {
+            case CSV:
+                fileType = "DEL";
+                break;
+            case TSV:
+                fileType = "DEL MODIFIED BY COLDEL0x09";
+                break;
+            default:
+                // the LOAD utility cannot skip header lines
+                throw unsupportedBulkLoadFormat(format);
+        }
+        String command = "LOAD FROM " + containerPath + " OF " + fileType + " INSERT INTO " + table;
+        try (
+            Connection connection = createBulkLoadConnection();
+            CallableStatement statement = connection.prepareCall("CALL SYSPROC.ADMIN_CMD(?)")
+        ) {
+            statement.setString(1, command);
+            statement.execute();
+            try (ResultSet resultSet = statement.getResultSet()) {
+                return resultSet != null && resultSet.next() ? resultSet.getLong("ROWS_LOADED") : 0;
+            }
+        }
+    }
 }
@@ -0,0 +1,36 @@
+package org.testcontainers.containers;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.testcontainers.UnstableAPI;
+
+/**
+ * Formats of the files that can be loaded with {@link JdbcDatabaseContainer#loadTable}.
+ * Not every database supports every format.
+ */
+@UnstableAPI
+@RequiredArgsConstructor
+public enum BulkLoadFormat {
+    /**
+     * Comma separated values, optionally enclosed in double quotes, without a header line
+     */
+    CSV(".csv"),
+
+    /**
+     * Comma separated values, optionally enclosed in double quotes, with a header line that is skipped
+     */
+    CSV_WITH_HEADER(".csv"),
+
+    /**
+     * Tab separated values without a header line
+     */
+    TSV(".tsv"),
+
+    /**
+     * Apache Parquet
+     */
+    PARQUET(".parquet");
+
+    @Getter
+    private final String fileExtension;
+}
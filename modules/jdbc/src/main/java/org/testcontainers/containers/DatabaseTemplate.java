@@ -0,0 +1,247 @@
+package org.testcontainers.containers;
+
+import com.google.common.base.Preconditions;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.UnstableAPI;
+import org.testcontainers.ext.ScriptUtils;
+import org.testcontainers.jdbc.ContainerLessJdbcDelegate;
+import org.testcontainers.utility.Base58;
+import org.testcontainers.utility.TestcontainersThreadFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Hands out fresh databases of a running {@link JdbcDatabaseContainer}, copied from a template database.
+ * <p>
+ * The template is created once, by running the container's init scripts and an optional initializer (e.g. a
+ * migration tool) against it. Every {@link #createDatabase()} then copies the template, which is much faster than
+ * initializing a database from scratch, and gives each test its own database without restarting the container.
+ * A number of copies is created in the background ahead of time, so that a database is usually ready when asked for.
+ * <p>
+ * Only containers that implement {@link JdbcDatabaseContainer#cloneDatabase} and
+ * {@link JdbcDatabaseContainer#dropDatabase} support templates, e.g. {@code PostgreSQLContainer}.
+ *
+ * <pre>
+ * DatabaseTemplate template = DatabaseTemplate.of(postgres, 2);
+ *
+ * String jdbcUrl = template.createDatabase();
+ * </pre>
+ */
+@UnstableAPI
+@Slf4j
+public final class DatabaseTemplate implements AutoCloseable {
+
+    private static final long CLOSE_TIMEOUT_SECONDS = 30;
+
+    /**
+     * Creates a template from the init scripts of the container.
+     *
+     * @param container the started container
+     * @param precreated the number of databases to create ahead of time
+     * @return a new template
+     */
+    public static DatabaseTemplate of(@NonNull JdbcDatabaseContainer<?> container, int precreated) {
+        return of(container, precreated, __ -> {});
+    }
+
+    /**
+     * Creates a template from the init scripts of the container, followed by the given initializer.
+     *
+     * @param container the started container
+     * @param precreated the number of databases to create ahead of time
+     * @param initializer receives the JDBC URL of the template database, and must close all connections to it
+     * @return a new template
+     */
+    public static DatabaseTemplate of(
+        @NonNull JdbcDatabaseContainer<?> container,
+        int precreated,
+        @NonNull Consumer<String> initializer
+    ) {
+        Preconditions.checkArgument(precreated >= 0, "precreated must not be negative");
+        Preconditions.checkState(container.isRunning(), "The container must be started");
+        return new DatabaseTemplate(container, precreated, initializer);
+    }
+
+    private final JdbcDatabaseContainer<?> container;
+
+    private final int precreated;
+
+    private final Consumer<String> initializer;
+
+    private final String namePrefix;
+
+    private final AtomicInteger counter = new AtomicInteger();
+
+    // databases are copied one at a time, as the template must not be accessed while it is copied
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+        TestcontainersThreadFactory.of("testcontainers-database-template-")
+    );
+
+    private final Deque<Future<String>> standby = new ArrayDeque<>(); // guarded by this
+
+    private boolean closed = false; // guarded by this
+
+    private boolean initialized = false; // only accessed by the executor
+
+    private volatile boolean templateCreated = false;
+
+    // databases that were copied, but not handed out yet
+    private final Set<String> unclaimed = ConcurrentHashMap.newKeySet();
+
+    private DatabaseTemplate(JdbcDatabaseContainer<?> container, int precreated, Consumer<String> initializer) {
+        this.container = container;
+        this.precreated = precreated;
+        this.initializer = initializer;
+
+        // a container may hold several templates, also of other JVMs when it is reused or shared through leases
+        ReuseLease lease = container.getReuseLease();
+        this.namePrefix =
+            (lease != null ? lease.getNamespace() : "testcontainers") +
+            "_" +
+            Base58.randomString(8).toLowerCase() +
+            "_";
+
+        synchronized (this) {
+            fillStandby();
+        }
+    }
+
+    /**
+     * Takes a database copied from the template, waiting for it to be created if necessary.
+     * A replacement is created in the background.
+     *
+     * @return the JDBC URL of a new database that is owned by the caller
+     */
+    @SneakyThrows(InterruptedException.class)
+    public String createDatabase() {
+        Future<String> next;
+        synchronized (this) {
+            Preconditions.checkState(!closed, "Database template is closed");
+            next = standby.poll();
+            if (next == null) {
+                next = executor.submit(this::copyTemplate);
+            }
+            fillStandby();
+        }
+
+        try {
+            String databaseName = next.get();
+            unclaimed.remove(databaseName);
+            return container.getJdbcUrlForDatabase(databaseName);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not create database from template", e.getCause());
+        }
+    }
+
+    /**
+     * Stops creating databases in the background, and drops the template and the databases created ahead of time.
+     * Databases that were already handed out are left untouched.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            standby.forEach(it -> it.cancel(true));
+            standby.clear();
+        }
+        executor.shutdownNow();
+
+        try {
+            // a copy in progress must not outlive the cleanup
+            if (!executor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Database template {} is still being copied, not dropping its databases", namePrefix);
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        dropDatabases();
+    }
+
+    private void fillStandby() {
+        while (standby.size() < precreated) {
+            standby.add(executor.submit(this::copyTemplate));
+        }
+    }
+
+    private String copyTemplate() throws SQLException {
+        String templateName = namePrefix + "template";
+        String databaseName = namePrefix + "clone_" + counter.incrementAndGet();
+
+        try (
+            Connection connection = container.createConnection("");
+            Statement statement = connection.createStatement()
+        ) {
+            if (!initialized) {
+                initializeTemplate(statement, templateName);
+                initialized = true;
+            }
+
+            long start = System.nanoTime();
+            container.cloneDatabase(statement, templateName, databaseName);
+            unclaimed.add(databaseName);
+            log.debug("Created database {} in {}ms", databaseName, (System.nanoTime() - start) / 1_000_000);
+        }
+        return databaseName;
+    }
+
+    private void dropDatabases() {
+        if (!templateCreated) {
+            return;
+        }
+
+        try (
+            Connection connection = container.createConnection("");
+            Statement statement = connection.createStatement()
+        ) {
+            for (String databaseName : unclaimed) {
+                container.dropDatabase(statement, databaseName);
+            }
+            unclaimed.clear();
+            container.dropDatabase(statement, namePrefix + "template");
+        } catch (Exception e) {
+            log.warn("Could not drop the databases of template {}", namePrefix, e);
+        }
+    }
+
+    private void initializeTemplate(Statement statement, String templateName) throws SQLException {
+        log.debug("Creating template database {}", templateName);
+        // set before the database is created, so that a template that is only partly initialized is dropped, too
+        templateCreated = true;
+        container.recreateDatabase(statement, templateName);
+
+        try (
+            Connection connection = container.createConnectionToDatabase(templateName);
+            ContainerLessJdbcDelegate delegate = new ContainerLessJdbcDelegate(connection)
+        ) {
+            container
+                .getInitScriptPaths()
+                .stream()
+                .filter(Objects::nonNull)
+                .forEach(path -> ScriptUtils.runInitScript(delegate, path));
+        }
+
+        initializer.accept(container.getJdbcUrlForDatabase(templateName));
+    }
+}
@@ -1,32 +1,50 @@
 package org.testcontainers.containers;
 
 import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
 import lombok.NonNull;
 import lombok.SneakyThrows;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.testcontainers.UnstableAPI;
 import org.testcontainers.containers.traits.LinkableContainer;
 import org.testcontainers.delegate.DatabaseDelegate;
 import org.testcontainers.ext.ScriptUtils;
+import org.testcontainers.images.builder.Transferable;
 import org.testcontainers.jdbc.JdbcDatabaseDelegate;
 import org.testcontainers.utility.DockerImageName;
 import org.testcontainers.utility.MountableFile;
+import org.testcontainers.utility.StartupHistory;
+import org.testcontainers.utility.StartupPollSchedule;
+import org.testcontainers.utility.TestcontainersThreadFactory;
 
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.Driver;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.zip.Checksum;
 
 /**
  * Base class for containers that expose a JDBC connection
@@ -49,6 +67,22 @@ public abstract class JdbcDatabaseContainer<SELF extends JdbcDatabaseContainer<S
 
     private int connectTimeoutSeconds = 120;
 
+    private boolean fastTestProfile = false;
+
+    private int initScriptBatchSize = 1;
+
+    private int initScriptTransactionSize = 0;
+
+    private boolean nativeInitScripts = false;
+
+    private static final Duration CONNECTION_RETRY_INTERVAL = Duration.ofMillis(100);
+
+    // more concurrent loads mostly compete for the disk and CPU of the database
+    private static final int BULK_LOAD_PARALLELISM = 4;
+
+    // schedule of connection attempts while waiting for the database to start
+    private volatile StartupPollSchedule startupPollSchedule;
+
     private static final String QUERY_PARAM_SEPARATOR = "&";
 
     /**
@@ -171,6 +205,80 @@ public abstract class JdbcDatabaseContainer<SELF extends JdbcDatabaseContainer<S
         return self();
     }
 
+    /**
+     * Sends up to {@code batchSize} consecutive statements of the init scripts in one JDBC batch, instead of one
+     * round trip per statement. This speeds up large seed scripts considerably.
+     *
+     * @param batchSize the maximum number of statements per batch, {@code 1} disables batching
+     * @return self
+     * @see JdbcDatabaseDelegate#withBatchSize(int)
+     */
+    @UnstableAPI
+    public SELF withInitScriptBatchSize(int batchSize) {
+        Preconditions.checkArgument(batchSize > 0, "batchSize must be greater than zero");
+        this.initScriptBatchSize = batchSize;
+        return self();
+    }
+
+    /**
+     * Runs the init scripts in transactions of up to {@code transactionSize} statements, instead of committing
+     * every statement.
+     *
+     * @param transactionSize the maximum number of statements per transaction, {@code 0} commits every statement
+     * @return self
+     * @see JdbcDatabaseDelegate#withTransactionSize(int)
+     */
+    @UnstableAPI
+    public SELF withInitScriptTransactionSize(int transactionSize) {
+        Preconditions.checkArgument(transactionSize >= 0, "transactionSize must not be negative");
+        this.initScriptTransactionSize = transactionSize;
+        return self();
+    }
+
+    /**
+     * Copies the init scripts into the container and runs them with the command line client of the database
+     * (e.g. {@code psql -f}), which executes the whole script server-side. The scripts are then parsed by the client
+     * instead of {@link ScriptUtils}, so they must be valid scripts for that client.
+     * Only supported by containers that implement {@link #getNativeClientCommand(String)}.
+     *
+     * @return self
+     */
+    @UnstableAPI
+    public SELF withNativeInitScripts() {
+        this.nativeInitScripts = true;
+        return self();
+    }
+
+    @UnstableAPI
+    public int getInitScriptBatchSize() {
+        return initScriptBatchSize;
+    }
+
+    @UnstableAPI
+    public int getInitScriptTransactionSize() {
+        return initScriptTransactionSize;
+    }
+
+    /**
+     * Trades durability for speed: keeps the data directory in memory (tmpfs) and turns off the flushes that only
+     * protect data against crashes of the host, where the database module supports it.
+     * Data is lost when the container stops, which is usually fine for tests.
+     *
+     * @return self
+     */
+    @UnstableAPI
+    public SELF withFastTestProfile() {
+        this.fastTestProfile = true;
+        return self();
+    }
+
+    /**
+     * @return whether {@link #withFastTestProfile()} was requested; applied by the database modules in {@link #configure()}
+     */
+    protected boolean isFastTestProfile() {
+        return fastTestProfile;
+    }
+
     @SneakyThrows(InterruptedException.class)
     @Override
     protected void waitUntilContainerStarted() {
@@ -183,27 +291,49 @@ public abstract class JdbcDatabaseContainer<SELF extends JdbcDatabaseContainer<S
 
         // Repeatedly try and open a connection to the DB and execute a test query
         long start = System.nanoTime();
+        // the image of the running container, so that waiting does not resolve (and possibly pull) the image again
+        InspectContainerResponse containerInfo = getContainerInfo();
+        String image = containerInfo != null && containerInfo.getConfig() != null
+            ? containerInfo.getConfig().getImage()
+            : null;
+        StartupPollSchedule schedule = StartupHistory
+            .getInstance()
+            .schedule(image, JdbcDatabaseContainer.class.getName());
+        startupPollSchedule = schedule;
 
         Exception lastConnectionException = null;
-        while ((System.nanoTime() - start) < TimeUnit.SECONDS.toNanos(startupTimeoutSeconds)) {
-            if (!isRunning()) {
-                Thread.sleep(100L);
-            } else {
-                try (Connection connection = createConnection(""); Statement statement = connection.createStatement()) {
-                    boolean testQuerySucceeded = statement.execute(this.getTestQueryString());
-                    if (testQuerySucceeded) {
-                        return;
+        try {
+            while ((System.nanoTime() - start) < TimeUnit.SECONDS.toNanos(startupTimeoutSeconds)) {
+                if (!isRunning()) {
+                    schedule.sleep(CONNECTION_RETRY_INTERVAL);
+                } else {
+                    try (
+                        Connection connection = createConnection("");
+                        Statement statement = connection.createStatement()
+                    ) {
+                        boolean testQuerySucceeded = statement.execute(this.getTestQueryString());
+                        if (testQuerySucceeded) {
+                            // a database that is ready on the first attempt (e.g. a reused container) tells nothing about its startup time
+                            if (schedule.getDelays() > 0) {
+                                StartupHistory
+                                    .getInstance()
+                                    .record(image, JdbcDatabaseContainer.class.getName(), schedule.getElapsed());
+                            }
+                            return;
+                        }
+                    } catch (NoDriverFoundException e) {
+                        // we explicitly want this exception to fail fast without retries
+                        throw e;
+                    } catch (Exception e) {
+                        lastConnectionException = e;
+                        // ignore so that we can try again
+                        logger().debug("Failure when trying test query", e);
+                        schedule.sleep(CONNECTION_RETRY_INTERVAL);
                     }
-                } catch (NoDriverFoundException e) {
-                    // we explicitly want this exception to fail fast without retries
-                    throw e;
-                } catch (Exception e) {
-                    lastConnectionException = e;
-                    // ignore so that we can try again
-                    logger().debug("Failure when trying test query", e);
-                    Thread.sleep(100L);
                 }
             }
+        } finally {
+            startupPollSchedule = null;
         }
 
         throw new IllegalStateException(
@@ -215,10 +345,127 @@ public abstract class JdbcDatabaseContainer<SELF extends JdbcDatabaseContainer<S
         );
     }
 
+    @Override
+    protected void reuseLeaseAcquired(ReuseLease lease) throws Exception {
+        try (Connection connection = createConnection(""); Statement statement = connection.createStatement()) {
+            recreateDatabase(statement, lease.getNamespace());
+        }
+    }
+
+    /**
+     * @return whether {@link #supportsDatabaseRecreation()}, which leased reuse requires to give each JVM its own
+     * database
+     */
+    @Override
+    @UnstableAPI
+    protected boolean canBeLeased() {
+        return supportsDatabaseRecreation();
+    }
+
+    /**
+     * @return whether this container implements {@link #recreateDatabase(Statement, String)}
+     */
+    @UnstableAPI
+    protected boolean supportsDatabaseRecreation() {
+        return false;
+    }
+
+    /**
+     * Drops the database with the given name if it exists and creates it empty. Used for the database of a
+     * {@link ReuseLease} (see {@link #withLeasedReuse(boolean)}), after which {@link #getJdbcUrl()} should point to
+     * that database, and for the template of a {@link DatabaseTemplate}.
+     *
+     * @param statement a statement of a connection to the default database
+     * @param databaseName the name of the database to create
+     * @throws SQLException if the database could not be created
+     */
+    @UnstableAPI
+    protected void recreateDatabase(Statement statement, String databaseName) throws SQLException {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support creating databases");
+    }
+
+    /**
+     * Creates a copy of a database, replacing the target database if it exists. Implement this for databases that
+     * can copy a database cheaply (e.g. {@code CREATE DATABASE ... TEMPLATE}) to support {@link DatabaseTemplate}.
+     *
+     * @param statement a statement of a connection to the default database
+     * @param templateName the name of the database to copy, which has no open connections
+     * @param databaseName the name of the database to create
+     * @throws SQLException if the database could not be created
+     */
+    @UnstableAPI
+    protected void cloneDatabase(Statement statement, String templateName, String databaseName) throws SQLException {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support cloning databases");
+    }
+
+    /**
+     * Drops the database with the given name if it exists. Used to remove the template of a {@link DatabaseTemplate}
+     * and the copies that were not handed out when the template is closed.
+     *
+     * @param statement a statement of a connection to the default database
+     * @param databaseName the name of the database to drop, which has no open connections
+     * @throws SQLException if the database could not be dropped
+     */
+    @UnstableAPI
+    protected void dropDatabase(Statement statement, String databaseName) throws SQLException {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support dropping databases");
+    }
+
+    /**
+     * @param databaseName the name of a database of this container
+     * @return the JDBC URL of the given database, with the same parameters as {@link #getJdbcUrl()}
+     */
+    @UnstableAPI
+    protected String getJdbcUrlForDatabase(String databaseName) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support other databases");
+    }
+
+    /**
+     * Creates a connection to the database with the given name, without retries.
+     */
+    Connection createConnectionToDatabase(String databaseName) throws SQLException {
+        Properties properties = new Properties();
+        properties.put("user", this.getUsername());
+        properties.put("password", this.getPassword());
+        return getJdbcDriverInstance().connect(getJdbcUrlForDatabase(databaseName), properties);
+    }
+
+    List<String> getInitScriptPaths() {
+        return initScriptPaths;
+    }
+
     @Override
     protected void containerIsStarted(InspectContainerResponse containerInfo) {
         logger().info("Container is started (JDBC URL: {})", this.getJdbcUrl());
-        runInitScriptIfRequired();
+        if (isRestoredFromSnapshot()) {
+            logger().info("Container is restored from a snapshot, skipping init scripts");
+        } else {
+            runInitScriptIfRequired();
+        }
+    }
+
+    /**
+     * Adds the content of the init scripts to the snapshot key, so that changing a script invalidates the snapshots.
+     */
+    @Override
+    @SneakyThrows(IOException.class)
+    protected void updateSnapshotChecksum(Checksum checksum) {
+        for (String initScriptPath : initScriptPaths) {
+            if (initScriptPath == null) {
+                continue;
+            }
+            URL resource = Thread.currentThread().getContextClassLoader().getResource(initScriptPath);
+            if (resource == null) {
+                resource = JdbcDatabaseContainer.class.getClassLoader().getResource(initScriptPath);
+            }
+
+            byte[] pathBytes = initScriptPath.getBytes(StandardCharsets.UTF_8);
+            checksum.update(pathBytes, 0, pathBytes.length);
+            if (resource != null) {
+                byte[] content = IOUtils.toByteArray(resource);
+                checksum.update(content, 0, content.length);
+            }
+        }
     }
 
     /**
@@ -287,7 +534,12 @@ public abstract class JdbcDatabaseContainer<SELF extends JdbcDatabaseContainer<S
                     return jdbcDriverInstance.connect(url, properties);
                 } catch (SQLException e) {
                     lastException = e;
-                    Thread.sleep(100L);
+                    StartupPollSchedule schedule = startupPollSchedule;
+                    if (schedule != null) {
+                        schedule.sleep(CONNECTION_RETRY_INTERVAL);
+                    } else {
+                        Thread.sleep(CONNECTION_RETRY_INTERVAL.toMillis());
+                    }
                 }
             }
         } catch (InterruptedException e) {
@@ -362,12 +614,199 @@ public abstract class JdbcDatabaseContainer<SELF extends JdbcDatabaseContainer<S
      * Load init script content and apply it to the database if initScriptPath is set
      */
     protected void runInitScriptIfRequired() {
+        if (nativeInitScripts) {
+            int index = 0;
+            for (String path : initScriptPaths) {
+                if (path != null) {
+                    runInitScriptWithNativeClient(path, "/tmp/testcontainers-init-" + index++ + ".sql");
+                }
+            }
+            return;
+        }
+
         initScriptPaths
             .stream()
             .filter(Objects::nonNull)
             .forEach(path -> ScriptUtils.runInitScript(getDatabaseDelegate(), path));
     }
 
+    @SneakyThrows({ IOException.class, InterruptedException.class })
+    private void runInitScriptWithNativeClient(String initScriptPath, String containerPath) {
+        String[] command = getNativeClientCommand(containerPath);
+        if (command == null) {
+            throw new UnsupportedOperationException(
+                getClass().getSimpleName() + " does not support running init scripts with the native client"
+            );
+        }
+
+        URL resource = Thread.currentThread().getContextClassLoader().getResource(initScriptPath);
+        if (resource == null) {
+            resource = JdbcDatabaseContainer.class.getClassLoader().getResource(initScriptPath);
+            if (resource == null) {
+                throw new ScriptUtils.ScriptLoadException(
+                    "Could not load classpath init script: " + initScriptPath + ". Resource not found."
+                );
+            }
+        }
+
+        logger().info("Executing database script from {} with the native client", initScriptPath);
+        long start = System.nanoTime();
+        copyFileToContainer(Transferable.of(IOUtils.toByteArray(resource)), containerPath);
+        ExecResult result = execInContainer(command);
+        if (result.getExitCode() != 0) {
+            throw new ScriptUtils.UncategorizedScriptException(
+                "Error while executing init script: " + initScriptPath + ": " + result.getStderr(),
+                null
+            );
+        }
+        logger()
+            .info(
+                "Executed database script from {} in {} ms",
+                initScriptPath,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+            );
+    }
+
+    /**
+     * Returns the command that runs a script with the command line client of the database, see
+     * {@link #withNativeInitScripts()}. The command must fail with a non-zero exit code if a statement fails.
+     *
+     * @param scriptPath the path of the script inside the container
+     * @return the command, or {@code null} if the container does not support it
+     */
+    @UnstableAPI
+    protected String[] getNativeClientCommand(String scriptPath) {
+        return null;
+    }
+
+    /**
+     * Loads a file into an existing table with the server-side bulk loader of the database, which is much faster
+     * than inserting the rows statement by statement. The file is copied into the container first.
+     *
+     * @param table  the name of the table
+     * @param file   the file to load
+     * @param format the format of the file
+     * @return the number of loaded rows
+     * @throws UnsupportedOperationException if the database or the format is not supported
+     */
+    @UnstableAPI
+    public long loadTable(String table, MountableFile file, BulkLoadFormat format) throws SQLException {
+        String containerPath =
+            getBulkLoadDirectory() + "/testcontainers-load-" + UUID.randomUUID() + format.getFileExtension();
+
+        long start = System.nanoTime();
+        copyFileToContainer(file, containerPath);
+        try {
+            long rows = bulkLoad(table, containerPath, format);
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            logger()
+                .info(
+                    "Loaded {} rows into {} in {} ms ({} rows/s)",
+                    rows,
+                    table,
+                    millis,
+                    millis > 0 ? rows * 1000 / millis : rows
+                );
+            return rows;
+        } finally {
+            try {
+                execInContainer("rm", "-f", containerPath);
+            } catch (Exception e) {
+                logger().debug("Could not remove {}", containerPath, e);
+            }
+        }
+    }
+
+    /**
+     * Loads several files in parallel, up to four at a time.
+     * See {@link #loadTable(String, MountableFile, BulkLoadFormat)}.
+     *
+     * @param tables the files to load, by table name
+     * @param format the format of the files
+     * @return the number of loaded rows, by table name
+     */
+    @UnstableAPI
+    public Map<String, Long> loadTables(Map<String, MountableFile> tables, BulkLoadFormat format)
+        throws SQLException {
+        if (tables.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+            Math.min(tables.size(), BULK_LOAD_PARALLELISM),
+            TestcontainersThreadFactory.of("testcontainers-bulk-load-")
+        );
+        try {
+            Map<String, Future<Long>> futures = new LinkedHashMap<>();
+            tables.forEach((table, file) -> futures.put(table, executor.submit(() -> loadTable(table, file, format))));
+
+            Map<String, Long> rows = new LinkedHashMap<>();
+            for (Map.Entry<String, Future<Long>> entry : futures.entrySet()) {
+                try {
+                    rows.put(entry.getKey(), entry.getValue().get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLException("Interrupted while loading " + entry.getKey(), e);
+                } catch (ExecutionException e) {
+                    Throwables.throwIfInstanceOf(e.getCause(), SQLException.class);
+                    Throwables.throwIfUnchecked(e.getCause());
+                    throw new SQLException("Could not load " + entry.getKey(), e.getCause());
+                }
+            }
+            return rows;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return the directory inside the container that the bulk loader of the database may read files from
+     */
+    @UnstableAPI
+    protected String getBulkLoadDirectory() {
+        return "/tmp";
+    }
+
+    /**
+     * Loads a file that was copied into the container into a table, see {@link #loadTable}.
+     *
+     * @param table         the name of the table
+     * @param containerPath the path of the file inside the container
+     * @param format        the format of the file
+     * @return the number of loaded rows
+     */
+    @UnstableAPI
+    protected long bulkLoad(String table, String containerPath, BulkLoadFormat format) throws SQLException {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support bulk loading");
+    }
+
+    /**
+     * Creates the connection that {@link #executeBulkLoad(String)} runs the bulk load statement with.
+     * Override it if the bulk loader needs additional privileges.
+     */
+    @UnstableAPI
+    protected Connection createBulkLoadConnection() throws SQLException {
+        return createConnection("");
+    }
+
+    /**
+     * Runs a bulk load statement.
+     *
+     * @return the update count of the statement
+     */
+    protected long executeBulkLoad(String sql) throws SQLException {
+        try (Connection connection = createBulkLoadConnection(); Statement statement = connection.createStatement()) {
+            logger().debug("Running bulk load: {}", sql);
+            return statement.executeUpdate(sql);
+        }
+    }
+
+    protected UnsupportedOperationException unsupportedBulkLoadFormat(BulkLoadFormat format) {
+        return new UnsupportedOperationException(
+            getClass().getSimpleName() + " does not support bulk loading " + format + " files"
+        );
+    }
+
     public void setParameters(Map<String, String> parameters) {
         this.parameters = parameters;
     }
@@ -0,0 +1,17 @@
+package org.testcontainers.containers;
+
+/**
+ * The {@link JdbcDatabaseContainer#withFastTestProfile() fast test profile} shared by MySQL and MariaDB, which read
+ * the same configuration from the same places.
+ */
+final class MySQLFastTestProfile {
+
+    static final String DATA_DIRECTORY = "/var/lib/mysql";
+
+    static final String CONFIG_PATH = "/etc/mysql/conf.d/testcontainers-fast.cnf";
+
+    static final String CONFIG =
+        "[mysqld]\n" + "innodb_flush_log_at_trx_commit=0\n" + "innodb_doublewrite=0\n" + "sync_binlog=0\n";
+
+    private MySQLFastTestProfile() {}
+}
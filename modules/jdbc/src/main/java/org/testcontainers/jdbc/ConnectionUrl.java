@@ -49,6 +49,9 @@ public class ConnectionUrl {
     @UnstableAPI
     private boolean reusable = false;
 
+    @UnstableAPI
+    private boolean fastTestProfile = false;
+
     private Optional<InitFunctionDef> initFunction = Optional.empty();
 
     private Optional<String> queryString;
@@ -137,6 +140,8 @@ public class ConnectionUrl {
 
         reusable = Boolean.parseBoolean(containerParameters.get("TC_REUSABLE"));
 
+        fastTestProfile = Boolean.parseBoolean(containerParameters.get("TC_FAST_PROFILE"));
+
         Matcher funcMatcher = Patterns.INITFUNCTION_MATCHING_PATTERN.matcher(this.getUrl());
         if (funcMatcher.matches()) {
             initFunction = Optional.of(new InitFunctionDef(funcMatcher.group(2), funcMatcher.group(4)));
@@ -1,6 +1,5 @@
 package org.testcontainers.jdbc;
 
-import org.apache.commons.io.IOUtils;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.containers.JdbcDatabaseContainer;
 import org.testcontainers.containers.JdbcDatabaseContainerProvider;
@@ -8,6 +7,8 @@ import org.testcontainers.delegate.DatabaseDelegate;
 import org.testcontainers.ext.ScriptUtils;
 
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.URL;
@@ -18,12 +19,14 @@ import java.sql.DriverManager;
 import java.sql.DriverPropertyInfo;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.Properties;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.logging.Logger;
 
 import javax.script.ScriptException;
@@ -48,13 +51,19 @@ public class ContainerDatabaseDriver implements Driver {
 
     private static final org.slf4j.Logger LOGGER = LoggerFactory.getLogger(ContainerDatabaseDriver.class);
 
-    private Driver delegate;
+    private volatile Driver delegate;
 
-    private static final Map<String, Set<Connection>> containerConnections = new HashMap<>();
+    private static final Map<String, Set<Connection>> containerConnections = new ConcurrentHashMap<>();
 
-    private static final Map<String, JdbcDatabaseContainer> jdbcUrlContainerCache = new HashMap<>();
+    private static final Map<String, JdbcDatabaseContainer> jdbcUrlContainerCache = new ConcurrentHashMap<>();
 
-    private static final Set<String> initializedContainers = new HashSet<>();
+    private static final Set<String> initializedContainers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * One lock per JDBC URL, so that containers of different URLs start in parallel. Connections to a started and
+     * initialized container only need the read lock, while starting, initializing and stopping it need the write lock.
+     */
+    private static final Map<String, ReadWriteLock> jdbcUrlLocks = new ConcurrentHashMap<>();
 
     private static final String FILE_PATH_PREFIX = "file:";
 
@@ -76,7 +85,7 @@ public class ContainerDatabaseDriver implements Driver {
     }
 
     @Override
-    public synchronized Connection connect(String url, final Properties info) throws SQLException {
+    public Connection connect(String url, final Properties info) throws SQLException {
         /*
           The driver should return "null" if it realizes it is the wrong kind of driver to connect to the given URL.
          */
@@ -85,14 +94,27 @@ public class ContainerDatabaseDriver implements Driver {
         }
 
         ConnectionUrl connectionUrl = ConnectionUrl.newInstance(url);
+        String queryString = connectionUrl.getQueryString().orElse("");
+        ReadWriteLock lock = getLock(url);
 
-        synchronized (jdbcUrlContainerCache) {
-            String queryString = connectionUrl.getQueryString().orElse("");
-            /*
-              If we already have a running container for this exact connection string, we want to connect
-              to that rather than create a new container
-             */
-            JdbcDatabaseContainer container = jdbcUrlContainerCache.get(connectionUrl.getUrl());
+        /*
+          If we already have a running and initialized container for this exact connection string, connect to it
+          without waiting for other connections to this URL
+         */
+        lock.readLock().lock();
+        try {
+            JdbcDatabaseContainer container = jdbcUrlContainerCache.get(url);
+            if (container != null && initializedContainers.contains(container.getContainerId())) {
+                Connection connection = container.createConnection(queryString, info);
+                return wrapConnection(connection, container, connectionUrl);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            JdbcDatabaseContainer container = jdbcUrlContainerCache.get(url);
             if (container == null) {
                 LOGGER.debug("Container not found in cache, creating new instance");
 
@@ -108,6 +130,9 @@ public class ContainerDatabaseDriver implements Driver {
                     if (candidateContainerType.supports(connectionUrl.getDatabaseType())) {
                         container = candidateContainerType.newInstance(connectionUrl);
                         container.withTmpFs(connectionUrl.getTmpfsOptions());
+                        if (connectionUrl.isFastTestProfile()) {
+                            container.withFastTestProfile();
+                        }
                         delegate = container.getJdbcDriverInstance();
                     }
                 }
@@ -118,8 +143,7 @@ public class ContainerDatabaseDriver implements Driver {
                 }
 
                 /*
-                  Cache the container before starting to prevent race conditions when a connection
-                  pool is started up
+                  Cache the container before starting, so that it is stopped by killContainers() if starting fails
                  */
                 jdbcUrlContainerCache.put(url, container);
 
@@ -151,9 +175,15 @@ public class ContainerDatabaseDriver implements Driver {
             }
 
             return wrapConnection(connection, container, connectionUrl);
+        } finally {
+            lock.writeLock().unlock();
         }
     }
 
+    private static ReadWriteLock getLock(String jdbcUrl) {
+        return jdbcUrlLocks.computeIfAbsent(jdbcUrl, __ -> new ReentrantReadWriteLock());
+    }
+
     /**
      * Wrap the connection, setting up a callback to be called when the connection is closed.
      * <p>
@@ -173,7 +203,7 @@ public class ContainerDatabaseDriver implements Driver {
 
         Set<Connection> connections = containerConnections.computeIfAbsent(
             container.getContainerId(),
-            k -> new HashSet<>()
+            k -> ConcurrentHashMap.newKeySet()
         );
 
         connections.add(connection);
@@ -185,9 +215,16 @@ public class ContainerDatabaseDriver implements Driver {
             () -> {
                 finalConnections.remove(connection);
                 if (!isDaemon && finalConnections.isEmpty()) {
-                    synchronized (jdbcUrlContainerCache) {
-                        container.stop();
-                        jdbcUrlContainerCache.remove(connectionUrl.getUrl());
+                    ReadWriteLock lock = getLock(connectionUrl.getUrl());
+                    lock.writeLock().lock();
+                    try {
+                        // a new connection may have been opened in the meantime
+                        if (finalConnections.isEmpty()) {
+                            container.stop();
+                            jdbcUrlContainerCache.remove(connectionUrl.getUrl(), container);
+                        }
+                    } finally {
+                        lock.writeLock().unlock();
                     }
                 }
             }
@@ -221,8 +258,9 @@ public class ContainerDatabaseDriver implements Driver {
                     );
                 }
 
-                String sql = IOUtils.toString(resource, StandardCharsets.UTF_8);
-                ScriptUtils.executeDatabaseScript(databaseDelegate, initScriptPath, sql);
+                try (Reader script = new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8)) {
+                    ScriptUtils.executeDatabaseScript(databaseDelegate, initScriptPath, script);
+                }
             } catch (IOException e) {
                 LOGGER.warn("Could not load classpath init script: {}", initScriptPath);
                 throw new SQLException("Could not load classpath init script: " + initScriptPath, e);
@@ -294,12 +332,7 @@ public class ContainerDatabaseDriver implements Driver {
      * tested and cleanup is needed to limit resource usage.
      */
     public static void killContainers() {
-        synchronized (jdbcUrlContainerCache) {
-            jdbcUrlContainerCache.values().forEach(JdbcDatabaseContainer::stop);
-            jdbcUrlContainerCache.clear();
-            containerConnections.clear();
-            initializedContainers.clear();
-        }
+        new ArrayList<>(jdbcUrlContainerCache.keySet()).forEach(ContainerDatabaseDriver::killContainer);
     }
 
     /**
@@ -310,14 +343,17 @@ public class ContainerDatabaseDriver implements Driver {
      * @param jdbcUrl the JDBC URL of the container which should be killed
      */
     public static void killContainer(String jdbcUrl) {
-        synchronized (jdbcUrlContainerCache) {
-            JdbcDatabaseContainer container = jdbcUrlContainerCache.get(jdbcUrl);
+        ReadWriteLock lock = getLock(jdbcUrl);
+        lock.writeLock().lock();
+        try {
+            JdbcDatabaseContainer container = jdbcUrlContainerCache.remove(jdbcUrl);
             if (container != null) {
                 container.stop();
-                jdbcUrlContainerCache.remove(jdbcUrl);
                 containerConnections.remove(container.getContainerId());
                 initializedContainers.remove(container.getContainerId());
             }
+        } finally {
+            lock.writeLock().unlock();
         }
     }
 
@@ -328,8 +364,6 @@ public class ContainerDatabaseDriver implements Driver {
      * @return an instance of database container or <code>null</code> if no container associated with JDBC URL
      */
     static JdbcDatabaseContainer getContainer(String jdbcUrl) {
-        synchronized (jdbcUrlContainerCache) {
-            return jdbcUrlContainerCache.get(jdbcUrl);
-        }
+        return jdbcUrlContainerCache.get(jdbcUrl);
     }
 }
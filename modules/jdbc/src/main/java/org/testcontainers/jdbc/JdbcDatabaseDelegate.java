@@ -1,13 +1,22 @@
 package org.testcontainers.jdbc;
 
+import com.google.common.base.Preconditions;
 import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.UnstableAPI;
 import org.testcontainers.containers.JdbcDatabaseContainer;
 import org.testcontainers.delegate.AbstractDatabaseDelegate;
 import org.testcontainers.exception.ConnectionCreationException;
 import org.testcontainers.ext.ScriptUtils;
 
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * JDBC database delegate
@@ -15,13 +24,56 @@ import java.sql.Statement;
 @Slf4j
 public class JdbcDatabaseDelegate extends AbstractDatabaseDelegate<Statement> {
 
+    private static final Set<String> QUERY_KEYWORDS = new HashSet<>(
+        Arrays.asList("select", "with", "show", "explain", "describe", "values", "call", "exec", "execute")
+    );
+
     private JdbcDatabaseContainer container;
 
     private String queryString;
 
+    private int batchSize = 1;
+
+    private int transactionSize = 0;
+
     public JdbcDatabaseDelegate(JdbcDatabaseContainer container, String queryString) {
         this.container = container;
         this.queryString = queryString;
+        if (container != null) {
+            this.batchSize = container.getInitScriptBatchSize();
+            this.transactionSize = container.getInitScriptTransactionSize();
+        }
+    }
+
+    /**
+     * Sends up to {@code batchSize} consecutive statements of a script in one JDBC batch, instead of one round trip
+     * per statement. Queries are still executed one by one, as they cannot be batched.
+     * Batching is not used for scripts that continue on errors, as a failed batch cannot be partially retried.
+     *
+     * @param batchSize the maximum number of statements per batch, {@code 1} disables batching
+     * @return this
+     */
+    @UnstableAPI
+    public JdbcDatabaseDelegate withBatchSize(int batchSize) {
+        Preconditions.checkArgument(batchSize > 0, "batchSize must be greater than zero");
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Groups the statements of a script into transactions of up to {@code transactionSize} statements, instead of
+     * committing every statement. The script must not contain statements that cannot run in a transaction.
+     * Transactions are not used for scripts that continue on errors, as a failed statement may abort the whole
+     * transaction.
+     *
+     * @param transactionSize the maximum number of statements per transaction, {@code 0} commits every statement
+     * @return this
+     */
+    @UnstableAPI
+    public JdbcDatabaseDelegate withTransactionSize(int transactionSize) {
+        Preconditions.checkArgument(transactionSize >= 0, "transactionSize must not be negative");
+        this.transactionSize = transactionSize;
+        return this;
     }
 
     @Override
@@ -61,6 +113,105 @@ public class JdbcDatabaseDelegate extends AbstractDatabaseDelegate<Statement> {
         }
     }
 
+    @Override
+    public void execute(
+        Iterable<String> statements,
+        String scriptPath,
+        boolean continueOnError,
+        boolean ignoreFailedDrops
+    ) {
+        boolean ignoresErrors = continueOnError || ignoreFailedDrops;
+        boolean batched = batchSize > 1 && !ignoresErrors;
+        int transactionSize = ignoresErrors ? 0 : this.transactionSize;
+        if (!batched && transactionSize == 0) {
+            super.execute(statements, scriptPath, continueOnError, ignoreFailedDrops);
+            return;
+        }
+
+        Statement statement = getConnection();
+        try {
+            Connection connection = statement.getConnection();
+            boolean autoCommit = connection.getAutoCommit();
+            if (transactionSize > 0) {
+                connection.setAutoCommit(false);
+            }
+            try {
+                List<String> batch = new ArrayList<>();
+                int lineNumber = 0;
+                int batchStart = 0;
+                int uncommitted = 0;
+                for (String sql : statements) {
+                    lineNumber++;
+                    if (batched && !isQuery(sql)) {
+                        if (batch.isEmpty()) {
+                            batchStart = lineNumber;
+                        }
+                        batch.add(sql);
+                        statement.addBatch(sql);
+                        if (batch.size() >= batchSize) {
+                            executeBatch(statement, batch, batchStart, scriptPath);
+                        }
+                    } else {
+                        executeBatch(statement, batch, batchStart, scriptPath);
+                        execute(sql, scriptPath, lineNumber, continueOnError, ignoreFailedDrops);
+                    }
+
+                    if (transactionSize > 0 && ++uncommitted >= transactionSize) {
+                        executeBatch(statement, batch, batchStart, scriptPath);
+                        connection.commit();
+                        uncommitted = 0;
+                    }
+                }
+                executeBatch(statement, batch, batchStart, scriptPath);
+                if (transactionSize > 0) {
+                    connection.commit();
+                }
+            } catch (RuntimeException | SQLException e) {
+                if (transactionSize > 0) {
+                    connection.rollback();
+                }
+                throw e;
+            } finally {
+                if (transactionSize > 0) {
+                    connection.setAutoCommit(autoCommit);
+                }
+            }
+        } catch (SQLException e) {
+            throw new ScriptUtils.UncategorizedScriptException("Failed to execute database script " + scriptPath, e);
+        }
+    }
+
+    private void executeBatch(Statement statement, List<String> batch, int batchStart, String scriptPath)
+        throws SQLException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            statement.executeBatch();
+            log.debug("Executed batch of {} statements", batch.size());
+        } catch (BatchUpdateException ex) {
+            // drivers either stop at the failed statement, or go on and mark every failed statement
+            int[] updateCounts = ex.getUpdateCounts();
+            int failed = updateCounts != null ? updateCounts.length : 0;
+            for (int i = 0; updateCounts != null && i < updateCounts.length; i++) {
+                if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+                    failed = i;
+                    break;
+                }
+            }
+            failed = Math.min(failed, batch.size() - 1);
+            throw new ScriptUtils.ScriptStatementFailedException(batch.get(failed), batchStart + failed, scriptPath, ex);
+        } finally {
+            statement.clearBatch();
+            batch.clear();
+        }
+    }
+
+    private static boolean isQuery(String sql) {
+        String keyword = sql.trim().split("\\s+", 2)[0].toLowerCase();
+        return QUERY_KEYWORDS.contains(keyword);
+    }
+
     @Override
     protected void closeConnectionQuietly(Statement statement) {
         try {
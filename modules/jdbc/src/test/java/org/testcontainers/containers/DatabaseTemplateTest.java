@@ -0,0 +1,123 @@
+package org.testcontainers.containers;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DatabaseTemplateTest {
+
+    private final List<String> clones = new CopyOnWriteArrayList<>();
+
+    private final List<String> drops = new CopyOnWriteArrayList<>();
+
+    private final CountDownLatch cloning = new CountDownLatch(1);
+
+    private volatile boolean blockCloning = false;
+
+    private final JdbcDatabaseContainerTest.JdbcDatabaseContainerStub container = new JdbcDatabaseContainerTest.JdbcDatabaseContainerStub(
+        "postgres:latest"
+    ) {
+        @Override
+        public Connection createConnection(String queryString) {
+            return Mockito.mock(Connection.class, Mockito.RETURNS_MOCKS);
+        }
+
+        @Override
+        Connection createConnectionToDatabase(String databaseName) {
+            return Mockito.mock(Connection.class, Mockito.RETURNS_MOCKS);
+        }
+
+        @Override
+        protected void recreateDatabase(Statement statement, String databaseName) {}
+
+        @Override
+        protected void cloneDatabase(Statement statement, String templateName, String databaseName)
+            throws SQLException {
+            if (blockCloning) {
+                cloning.countDown();
+                try {
+                    Thread.sleep(60_000);
+                } catch (InterruptedException e) {
+                    throw new SQLException("interrupted", e);
+                }
+            }
+            clones.add(templateName + " -> " + databaseName);
+        }
+
+        @Override
+        protected void dropDatabase(Statement statement, String databaseName) {
+            drops.add(databaseName);
+        }
+
+        @Override
+        protected String getJdbcUrlForDatabase(String databaseName) {
+            return "jdbc:stub:" + databaseName;
+        }
+    };
+
+    @Test
+    public void templatesOfTheSameContainerShouldNotShareNames() {
+        String first;
+        String second;
+        try (
+            DatabaseTemplate firstTemplate = DatabaseTemplate.of(container, 0);
+            DatabaseTemplate secondTemplate = DatabaseTemplate.of(container, 0)
+        ) {
+            first = firstTemplate.createDatabase();
+            second = secondTemplate.createDatabase();
+        }
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(clones).hasSize(2);
+        assertThat(clones.get(0).split(" -> ")[0])
+            .as("each template has its own template database")
+            .isNotEqualTo(clones.get(1).split(" -> ")[0]);
+    }
+
+    @Test(timeout = 10_000L)
+    public void closeShouldCancelDatabasesCreatedAheadOfTime() throws Exception {
+        blockCloning = true;
+        DatabaseTemplate template = DatabaseTemplate.of(container, 2);
+        cloning.await();
+
+        template.close();
+
+        assertThat(clones).as("the copy in progress is interrupted, the queued one never runs").isEmpty();
+        assertThatThrownBy(template::createDatabase).isInstanceOf(IllegalStateException.class);
+        assertThat(drops).as("the template is dropped").hasSize(1).allMatch(it -> it.endsWith("_template"));
+    }
+
+    @Test(timeout = 10_000L)
+    public void closeShouldDropTheTemplateAndTheDatabasesThatWereNotHandedOut() throws Exception {
+        String handedOut;
+        try (DatabaseTemplate template = DatabaseTemplate.of(container, 1)) {
+            handedOut = template.createDatabase().substring("jdbc:stub:".length());
+            while (clones.size() < 2) {
+                // wait for the replacement of the database that was handed out
+                Thread.sleep(10);
+            }
+        }
+
+        List<String> notHandedOut = clones
+            .stream()
+            .map(it -> it.split(" -> ")[1])
+            .filter(it -> !it.equals(handedOut))
+            .collect(Collectors.toList());
+        assertThat(notHandedOut).as("databases were created ahead of time").isNotEmpty();
+        assertThat(drops)
+            .doesNotContain(handedOut)
+            .containsAll(notHandedOut)
+            .contains(clones.get(0).split(" -> ")[0])
+            .hasSize(notHandedOut.size() + 1);
+    }
+}
@@ -7,6 +7,7 @@ import org.slf4j.Logger;
 import java.sql.Connection;
 import java.sql.SQLException;
 
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.mock;
 
@@ -20,6 +21,27 @@ public class JdbcDatabaseContainerTest {
         assertThatExceptionOfType(IllegalStateException.class).isThrownBy(jdbcContainer::waitUntilContainerStarted);
     }
 
+    @Test
+    public void leasedReuseFailsFastWithoutDatabaseRecreation() {
+        JdbcDatabaseContainer<?> jdbcContainer = new JdbcDatabaseContainerStub("mysql:latest");
+
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(() -> jdbcContainer.withLeasedReuse(true))
+            .withMessageContaining("leased reuse");
+    }
+
+    @Test
+    public void leasedReuseIsAllowedWithDatabaseRecreation() {
+        JdbcDatabaseContainer<?> jdbcContainer = new JdbcDatabaseContainerStub("mysql:latest") {
+            @Override
+            protected boolean supportsDatabaseRecreation() {
+                return true;
+            }
+        };
+
+        assertThatCode(() -> jdbcContainer.withLeasedReuse(true)).doesNotThrowAnyException();
+    }
+
     static class JdbcDatabaseContainerStub extends JdbcDatabaseContainer {
 
         public JdbcDatabaseContainerStub(@NonNull String dockerImageName) {
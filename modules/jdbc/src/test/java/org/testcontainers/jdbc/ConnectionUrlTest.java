@@ -111,4 +111,13 @@ public class ConnectionUrlTest {
 
         assertThat(url.isInDaemonMode()).as("Daemon flag is set to true.").isTrue();
     }
+
+    @Test
+    public void testFastProfileCapture() {
+        String urlString = "jdbc:tc:mysql:8.0.36://somehostname:3306/databasename?TC_FAST_PROFILE=true";
+        ConnectionUrl url = ConnectionUrl.newInstance(urlString);
+
+        assertThat(url.isFastTestProfile()).as("Fast test profile flag is set to true.").isTrue();
+        assertThat(url.getQueryParameters()).as("Fast test profile flag is not a query parameter").isEmpty();
+    }
 }
@@ -8,7 +8,16 @@ import org.junit.rules.ExpectedException;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -32,4 +41,78 @@ public class ContainerDatabaseDriverTest {
         thrown.expectMessage(CoreMatchers.startsWith("No suitable driver found for "));
         DriverManager.getConnection(PLAIN_POSTGRESQL_JDBC_URL);
     }
+
+    @Test(timeout = 30_000L)
+    public void shouldStartContainersOfDifferentUrlsConcurrently() throws Exception {
+        CyclicBarrier bothStarting = new CyclicBarrier(2);
+        StubDatabaseContainerProvider.startHook =
+            () -> {
+                try {
+                    bothStarting.await(10, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException("Containers were not started concurrently", e);
+                }
+            };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ContainerDatabaseDriver driver = new ContainerDatabaseDriver();
+            List<Future<Connection>> connections = new ArrayList<>();
+            for (String database : Arrays.asList("first", "second")) {
+                String url = stubUrl(database);
+                connections.add(executor.submit(() -> driver.connect(url, new Properties())));
+            }
+
+            for (Future<Connection> connection : connections) {
+                connection.get().close();
+            }
+        } finally {
+            StubDatabaseContainerProvider.startHook = () -> {};
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(timeout = 60_000L)
+    public void shouldNotStopTheContainerOfAConnectionOpenedWhileTheLastOneCloses() throws Exception {
+        ContainerDatabaseDriver driver = new ContainerDatabaseDriver();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 100; i++) {
+                String url = stubUrl("race" + i);
+                Connection first = driver.connect(url, new Properties());
+
+                CyclicBarrier race = new CyclicBarrier(2);
+                Future<?> closing = executor.submit(() -> {
+                    race.await();
+                    first.close();
+                    return null;
+                });
+                Future<Connection> connecting = executor.submit(() -> {
+                    race.await();
+                    return driver.connect(url, new Properties());
+                });
+                closing.get();
+
+                try (Connection second = connecting.get()) {
+                    StubDatabaseContainerProvider.StubDatabaseContainer container =
+                        StubDatabaseContainerProvider.CONTAINERS.get(second.getCatalog());
+                    assertThat(container.isStopped())
+                        .as("the container of an open connection is not stopped (attempt %d)", i)
+                        .isFalse();
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String stubUrl(String database) {
+        return (
+            "jdbc:tc:" +
+            StubDatabaseContainerProvider.DATABASE_TYPE +
+            "://hostname/" +
+            database +
+            "-" +
+            UUID.randomUUID()
+        );
+    }
 }
@@ -0,0 +1,110 @@
+package org.testcontainers.jdbc;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.testcontainers.ext.ScriptUtils;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class JdbcDatabaseDelegateTest {
+
+    private static final List<String> STATEMENTS = Arrays.asList(
+        "INSERT INTO foo VALUES (1)",
+        "INSERT INTO foo VALUES (2)",
+        "INSERT INTO foo VALUES (3)",
+        "SELECT count(*) FROM foo",
+        "INSERT INTO foo VALUES (4)"
+    );
+
+    private Connection connection;
+
+    private Statement statement;
+
+    @Before
+    public void setUp() throws SQLException {
+        connection = mock(Connection.class);
+        statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+    }
+
+    @Test
+    public void shouldExecuteStatementsOneByOneByDefault() throws SQLException {
+        try (JdbcDatabaseDelegate delegate = new ContainerLessJdbcDelegate(connection)) {
+            delegate.execute(STATEMENTS, "script.sql", false, false);
+        }
+
+        verify(statement, times(STATEMENTS.size())).execute(anyString());
+        verify(statement, never()).executeBatch();
+    }
+
+    @Test
+    public void shouldBatchStatementsAroundQueries() throws SQLException {
+        try (JdbcDatabaseDelegate delegate = new ContainerLessJdbcDelegate(connection).withBatchSize(2)) {
+            delegate.execute(STATEMENTS, "script.sql", false, false);
+        }
+
+        InOrder inOrder = inOrder(statement);
+        inOrder.verify(statement).addBatch(STATEMENTS.get(0));
+        inOrder.verify(statement).addBatch(STATEMENTS.get(1));
+        inOrder.verify(statement).executeBatch();
+        inOrder.verify(statement).addBatch(STATEMENTS.get(2));
+        inOrder.verify(statement).executeBatch();
+        inOrder.verify(statement).execute(STATEMENTS.get(3));
+        inOrder.verify(statement).addBatch(STATEMENTS.get(4));
+        inOrder.verify(statement).executeBatch();
+        verify(connection, never()).setAutoCommit(false);
+    }
+
+    @Test
+    public void shouldGroupStatementsIntoTransactions() throws SQLException {
+        try (JdbcDatabaseDelegate delegate = new ContainerLessJdbcDelegate(connection).withTransactionSize(2)) {
+            delegate.execute(STATEMENTS, "script.sql", false, false);
+        }
+
+        verify(connection).setAutoCommit(false);
+        verify(connection, times(3)).commit();
+        verify(connection).setAutoCommit(true);
+    }
+
+    @Test
+    public void shouldNotGroupStatementsIntoTransactionsWhenIgnoringErrors() throws SQLException {
+        when(statement.execute(STATEMENTS.get(1))).thenThrow(new SQLException("aborts the transaction"));
+
+        try (JdbcDatabaseDelegate delegate = new ContainerLessJdbcDelegate(connection).withTransactionSize(2)) {
+            delegate.execute(STATEMENTS, "script.sql", true, false);
+        }
+
+        verify(statement, times(STATEMENTS.size())).execute(anyString());
+        verify(connection, never()).setAutoCommit(false);
+        verify(connection, never()).commit();
+    }
+
+    @Test
+    public void shouldReportTheFailedStatementOfABatch() throws SQLException {
+        when(statement.executeBatch()).thenThrow(new BatchUpdateException(new int[] { 1 }));
+
+        try (JdbcDatabaseDelegate delegate = new ContainerLessJdbcDelegate(connection).withBatchSize(3)) {
+            assertThatThrownBy(() -> delegate.execute(STATEMENTS, "script.sql", false, false))
+                .isInstanceOf(ScriptUtils.ScriptStatementFailedException.class)
+                .hasMessageContaining("script.sql:2")
+                .hasMessageContaining(STATEMENTS.get(1));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.testcontainers.jdbc;
+
+import org.mockito.Mockito;
+import org.testcontainers.containers.JdbcDatabaseContainer;
+import org.testcontainers.containers.JdbcDatabaseContainerProvider;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provides containers for {@code jdbc:tc:stub:...} URLs that pretend to start, so that
+ * {@link ContainerDatabaseDriver} can be tested without Docker.
+ */
+public class StubDatabaseContainerProvider extends JdbcDatabaseContainerProvider {
+
+    static final String DATABASE_TYPE = "stub";
+
+    /**
+     * Runs while a container "starts", e.g. to observe concurrent starts
+     */
+    static volatile Runnable startHook = () -> {};
+
+    /**
+     * All containers that were started, by container id
+     */
+    static final Map<String, StubDatabaseContainer> CONTAINERS = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean supports(String databaseType) {
+        return DATABASE_TYPE.equals(databaseType);
+    }
+
+    @Override
+    public JdbcDatabaseContainer newInstance() {
+        return newInstance("latest");
+    }
+
+    @Override
+    public JdbcDatabaseContainer newInstance(String tag) {
+        return new StubDatabaseContainer(tag);
+    }
+
+    static class StubDatabaseContainer extends JdbcDatabaseContainer<StubDatabaseContainer> {
+
+        private final String containerId = UUID.randomUUID().toString();
+
+        private volatile boolean running = false;
+
+        private volatile boolean stopped = false;
+
+        StubDatabaseContainer(String tag) {
+            super("stub:" + tag);
+        }
+
+        @Override
+        public void start() {
+            startHook.run();
+            CONTAINERS.put(containerId, this);
+            running = true;
+        }
+
+        @Override
+        public void stop() {
+            running = false;
+            stopped = true;
+        }
+
+        boolean isStopped() {
+            return stopped;
+        }
+
+        @Override
+        public boolean isRunning() {
+            return running;
+        }
+
+        @Override
+        public String getContainerId() {
+            return running || stopped ? containerId : null;
+        }
+
+        /**
+         * @return a connection whose catalog is the id of this container
+         */
+        @Override
+        public Connection createConnection(String queryString, Properties info) throws SQLException {
+            Connection connection = Mockito.mock(Connection.class);
+            Mockito.doReturn(containerId).when(connection).getCatalog();
+            return connection;
+        }
+
+        @Override
+        public Driver getJdbcDriverInstance() {
+            return null;
+        }
+
+        @Override
+        public String getDriverClassName() {
+            return null;
+        }
+
+        @Override
+        public String getJdbcUrl() {
+            return "jdbc:stub";
+        }
+
+        @Override
+        public String getUsername() {
+            return null;
+        }
+
+        @Override
+        public String getPassword() {
+            return null;
+        }
+
+        @Override
+        protected String getTestQueryString() {
+            return null;
+        }
+    }
+}
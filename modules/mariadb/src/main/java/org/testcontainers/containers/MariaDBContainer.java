@@ -4,6 +4,9 @@ import com.google.common.collect.Sets;
 import org.testcontainers.images.builder.Transferable;
 import org.testcontainers.utility.DockerImageName;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Properties;
 import java.util.Set;
 
 /**
@@ -73,6 +76,10 @@ public class MariaDBContainer<SELF extends MariaDBContainer<SELF>> extends JdbcD
             "mariadb-default-conf",
             Transferable.DEFAULT_DIR_MODE
         );
+        if (isFastTestProfile()) {
+            addTmpFs(MySQLFastTestProfile.DATA_DIRECTORY, "rw");
+            withCopyToContainer(Transferable.of(MySQLFastTestProfile.CONFIG), MySQLFastTestProfile.CONFIG_PATH);
+        }
 
         addEnv("MYSQL_DATABASE", databaseName);
 
@@ -123,6 +130,50 @@ public class MariaDBContainer<SELF extends MariaDBContainer<SELF>> extends JdbcD
         return "SELECT 1";
     }
 
+    @Override
+    protected String[] getNativeClientCommand(String scriptPath) {
+        // recent images only ship the client as "mariadb"
+        return new String[] {
+            "sh",
+            "-c",
+            "$(command -v mariadb || command -v mysql) --user=\"$1\" --password=\"$2\" \"$3\" < \"$4\"",
+            "sh",
+            getUsername(),
+            getPassword(),
+            getDatabaseName(),
+            scriptPath,
+        };
+    }
+
+    @Override
+    protected long bulkLoad(String table, String containerPath, BulkLoadFormat format) throws SQLException {
+        String options;
+        switch (format) {
+            case CSV:
+                options = " FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' LINES TERMINATED BY '\\n'";
+                break;
+            case CSV_WITH_HEADER:
+                options =
+                    " FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' LINES TERMINATED BY '\\n' IGNORE 1 LINES";
+                break;
+            case TSV:
+                options = "";
+                break;
+            default:
+                throw unsupportedBulkLoadFormat(format);
+        }
+        return executeBulkLoad("LOAD DATA INFILE '" + containerPath + "' INTO TABLE " + table + options);
+    }
+
+    @Override
+    protected Connection createBulkLoadConnection() throws SQLException {
+        // LOAD DATA INFILE requires the FILE privilege, which is only granted to root
+        Properties info = new Properties();
+        info.put("user", MARIADB_ROOT_USER);
+        info.put("password", getPassword());
+        return getJdbcDriverInstance().connect(getJdbcUrl(), info);
+    }
+
     public SELF withConfigurationOverride(String s) {
         parameters.put(MY_CNF_CONFIG_OVERRIDE_PARAM_NAME, s);
         return self();
@@ -0,0 +1,47 @@
+package org.testcontainers.containers;
+
+import org.junit.Test;
+import org.testcontainers.MariaDBTestImages;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MariaDBFastTestProfileTest {
+
+    @Test
+    public void shouldKeepTheDataOnTmpfsAndRelaxTheFlushes() {
+        MariaDBContainer<?> mariadb = new MariaDBContainer<>(MariaDBTestImages.MARIADB_IMAGE).withFastTestProfile();
+
+        mariadb.configure();
+
+        assertThat(mariadb.getTmpFsMapping()).containsEntry("/var/lib/mysql", "rw");
+        assertThat(copiedFile(mariadb, "/etc/mysql/conf.d/testcontainers-fast.cnf"))
+            .isEqualTo(
+                "[mysqld]\n" + "innodb_flush_log_at_trx_commit=0\n" + "innodb_doublewrite=0\n" + "sync_binlog=0\n"
+            );
+    }
+
+    @Test
+    public void shouldNotChangeTheConfigurationWithoutTheFastTestProfile() {
+        MariaDBContainer<?> mariadb = new MariaDBContainer<>(MariaDBTestImages.MARIADB_IMAGE);
+
+        mariadb.configure();
+
+        assertThat(mariadb.getTmpFsMapping()).isNull();
+        assertThat(copiedFile(mariadb, "/etc/mysql/conf.d/testcontainers-fast.cnf")).isNull();
+    }
+
+    private static String copiedFile(GenericContainer<?> container, String containerPath) {
+        return container
+            .getCopyToTransferableContainerPathMap()
+            .entrySet()
+            .stream()
+            .filter(entry -> entry.getValue().equals(containerPath))
+            .map(Map.Entry::getKey)
+            .map(transferable -> new String(transferable.getBytes(), StandardCharsets.UTF_8))
+            .findFirst()
+            .orElse(null);
+    }
+}
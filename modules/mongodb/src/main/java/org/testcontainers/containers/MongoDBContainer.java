@@ -4,6 +4,7 @@ import com.github.dockerjava.api.command.InspectContainerResponse;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.UnstableAPI;
 import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.utility.DockerImageName;
 import org.testcontainers.utility.MountableFile;
@@ -87,6 +88,18 @@ public class MongoDBContainer extends GenericContainer<MongoDBContainer> {
         return this;
     }
 
+    /**
+     * Keeps the data and config directories in memory (tmpfs). Data is lost when the container stops.
+     *
+     * @return this
+     */
+    @UnstableAPI
+    public MongoDBContainer withFastTestProfile() {
+        addTmpFs("/data/db", "rw");
+        addTmpFs("/data/configdb", "rw");
+        return this;
+    }
+
     @Override
     protected void containerIsStarted(InspectContainerResponse containerInfo, boolean reused) {
         if (!this.shardingEnabled) {
@@ -3,6 +3,7 @@ package org.testcontainers.containers;
 import org.testcontainers.utility.DockerImageName;
 import org.testcontainers.utility.LicenseAcceptance;
 
+import java.sql.SQLException;
 import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -127,6 +128,25 @@ public class MSSQLServerContainer<SELF extends MSSQLServerContainer<SELF>> exten
         return "SELECT 1";
     }
 
+    @Override
+    protected long bulkLoad(String table, String containerPath, BulkLoadFormat format) throws SQLException {
+        String options;
+        switch (format) {
+            case CSV:
+                options = "FORMAT = 'CSV'";
+                break;
+            case CSV_WITH_HEADER:
+                options = "FORMAT = 'CSV', FIRSTROW = 2";
+                break;
+            case TSV:
+                options = "FIELDTERMINATOR = '\\t', ROWTERMINATOR = '0x0a'";
+                break;
+            default:
+                throw unsupportedBulkLoadFormat(format);
+        }
+        return executeBulkLoad("BULK INSERT " + table + " FROM '" + containerPath + "' WITH (" + options + ")");
+    }
+
     @Override
     public SELF withPassword(final String password) {
         checkPasswordStrength(password);
@@ -4,6 +4,9 @@ import org.jetbrains.annotations.NotNull;
 import org.testcontainers.images.builder.Transferable;
 import org.testcontainers.utility.DockerImageName;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Properties;
 import java.util.Set;
 
 /**
@@ -41,6 +44,8 @@ public class MySQLContainer<SELF extends MySQLContainer<SELF>> extends JdbcDatab
 
     private static final String MYSQL_ROOT_USER = "root";
 
+    private static final String SNAPSHOT_DATA_DIRECTORY = "/var/lib/mysql-snapshot";
+
     /**
      * @deprecated use {@link #MySQLContainer(DockerImageName)} instead
      */
@@ -79,6 +84,20 @@ public class MySQLContainer<SELF extends MySQLContainer<SELF>> extends JdbcDatab
             "mysql-default-conf",
             Transferable.DEFAULT_DIR_MODE
         );
+        if (getSnapshotName() != null) {
+            // The default data directory is a volume, which would not be part of the snapshot
+            withCopyToContainer(
+                Transferable.of("[mysqld]\ndatadir=" + SNAPSHOT_DATA_DIRECTORY + "\n"),
+                "/etc/mysql/conf.d/testcontainers-snapshot.cnf"
+            );
+        }
+        if (isFastTestProfile()) {
+            // tmpfs mounts are not part of snapshots
+            if (getSnapshotName() == null) {
+                addTmpFs(MySQLFastTestProfile.DATA_DIRECTORY, "rw");
+            }
+            withCopyToContainer(Transferable.of(MySQLFastTestProfile.CONFIG), MySQLFastTestProfile.CONFIG_PATH);
+        }
 
         addEnv("MYSQL_DATABASE", databaseName);
         if (!MYSQL_ROOT_USER.equalsIgnoreCase(username)) {
@@ -147,6 +166,55 @@ public class MySQLContainer<SELF extends MySQLContainer<SELF>> extends JdbcDatab
         return "SELECT 1";
     }
 
+    @Override
+    protected String[] getNativeClientCommand(String scriptPath) {
+        return new String[] {
+            "sh",
+            "-c",
+            "mysql --user=\"$1\" --password=\"$2\" \"$3\" < \"$4\"",
+            "sh",
+            getUsername(),
+            getPassword(),
+            getDatabaseName(),
+            scriptPath,
+        };
+    }
+
+    @Override
+    protected String getBulkLoadDirectory() {
+        // the only directory that secure_file_priv allows by default
+        return "/var/lib/mysql-files";
+    }
+
+    @Override
+    protected long bulkLoad(String table, String containerPath, BulkLoadFormat format) throws SQLException {
+        String options;
+        switch (format) {
+            case CSV:
+                options = " FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' LINES TERMINATED BY '\\n'";
+                break;
+            case CSV_WITH_HEADER:
+                options =
+                    " FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' LINES TERMINATED BY '\\n' IGNORE 1 LINES";
+                break;
+            case TSV:
+                options = "";
+                break;
+            default:
+                throw unsupportedBulkLoadFormat(format);
+        }
+        return executeBulkLoad("LOAD DATA INFILE '" + containerPath + "' INTO TABLE " + table + options);
+    }
+
+    @Override
+    protected Connection createBulkLoadConnection() throws SQLException {
+        // LOAD DATA INFILE requires the FILE privilege, which is only granted to root
+        Properties info = new Properties();
+        info.put("user", MYSQL_ROOT_USER);
+        info.put("password", getPassword());
+        return getJdbcDriverInstance().connect(getJdbcUrl(), info);
+    }
+
     public SELF withConfigurationOverride(String s) {
         parameters.put(MY_CNF_CONFIG_OVERRIDE_PARAM_NAME, s);
         return self();
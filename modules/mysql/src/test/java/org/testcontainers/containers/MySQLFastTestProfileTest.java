@@ -0,0 +1,59 @@
+package org.testcontainers.containers;
+
+import org.junit.Test;
+import org.testcontainers.MySQLTestImages;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MySQLFastTestProfileTest {
+
+    @Test
+    public void shouldKeepTheDataOnTmpfsAndRelaxTheFlushes() {
+        MySQLContainer<?> mysql = new MySQLContainer<>(MySQLTestImages.MYSQL_80_IMAGE).withFastTestProfile();
+
+        mysql.configure();
+
+        assertThat(mysql.getTmpFsMapping()).containsEntry("/var/lib/mysql", "rw");
+        assertThat(copiedFile(mysql, "/etc/mysql/conf.d/testcontainers-fast.cnf"))
+            .isEqualTo(
+                "[mysqld]\n" + "innodb_flush_log_at_trx_commit=0\n" + "innodb_doublewrite=0\n" + "sync_binlog=0\n"
+            );
+    }
+
+    @Test
+    public void shouldKeepTheDataOnDiskWithSnapshots() {
+        MySQLContainer<?> mysql = new MySQLContainer<>(MySQLTestImages.MYSQL_80_IMAGE)
+            .withFastTestProfile()
+            .withSnapshot("fast");
+
+        mysql.configure();
+
+        assertThat(mysql.getTmpFsMapping()).isNull();
+        assertThat(copiedFile(mysql, "/etc/mysql/conf.d/testcontainers-fast.cnf")).isNotNull();
+    }
+
+    @Test
+    public void shouldNotChangeTheConfigurationWithoutTheFastTestProfile() {
+        MySQLContainer<?> mysql = new MySQLContainer<>(MySQLTestImages.MYSQL_80_IMAGE);
+
+        mysql.configure();
+
+        assertThat(mysql.getTmpFsMapping()).isNull();
+        assertThat(copiedFile(mysql, "/etc/mysql/conf.d/testcontainers-fast.cnf")).isNull();
+    }
+
+    private static String copiedFile(GenericContainer<?> container, String containerPath) {
+        return container
+            .getCopyToTransferableContainerPathMap()
+            .entrySet()
+            .stream()
+            .filter(entry -> entry.getValue().equals(containerPath))
+            .map(Map.Entry::getKey)
+            .map(transferable -> new String(transferable.getBytes(), StandardCharsets.UTF_8))
+            .findFirst()
+            .orElse(null);
+    }
+}
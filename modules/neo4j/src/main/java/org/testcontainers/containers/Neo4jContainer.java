@@ -1,5 +1,6 @@
 package org.testcontainers.containers;
 
+import org.testcontainers.UnstableAPI;
 import org.testcontainers.containers.wait.strategy.HttpWaitStrategy;
 import org.testcontainers.containers.wait.strategy.LogMessageWaitStrategy;
 import org.testcontainers.containers.wait.strategy.WaitAllStrategy;
@@ -309,6 +310,18 @@ public class Neo4jContainer<S extends Neo4jContainer<S>> extends GenericContaine
         return self();
     }
 
+    /**
+     * Keeps the data directory, including the transaction logs, in memory (tmpfs). Data is lost when the container
+     * stops. As the tmpfs hides the data directory of the image, this cannot be combined with {@link #withDatabase}.
+     *
+     * @return This container.
+     */
+    @UnstableAPI
+    public S withFastTestProfile() {
+        addTmpFs("/data", "rw");
+        return self();
+    }
+
     /**
      * @return The admin password for the <code>neo4j</code> account or literal <code>null</code> if auth is disabled.
      */
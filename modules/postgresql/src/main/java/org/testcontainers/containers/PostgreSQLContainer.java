@@ -1,11 +1,17 @@
 package org.testcontainers.containers;
 
+import com.github.dockerjava.api.model.ContainerConfig;
 import org.jetbrains.annotations.NotNull;
 import org.testcontainers.containers.wait.strategy.LogMessageWaitStrategy;
 import org.testcontainers.utility.DockerImageName;
 
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -41,6 +47,16 @@ public class PostgreSQLContainer<SELF extends PostgreSQLContainer<SELF>> extends
 
     private static final String FSYNC_OFF_OPTION = "fsync=off";
 
+    // outside of /var/lib/postgresql, which is the volume of the images since PostgreSQL 18
+    private static final String SNAPSHOT_DATA_DIRECTORY = "/var/lib/postgresql-snapshot";
+
+    private static final String DEFAULT_DATA_DIRECTORY = "/var/lib/postgresql/data";
+
+    private static final String[] FAST_TEST_PROFILE_OPTIONS = {
+        "synchronous_commit=off",
+        "full_page_writes=off",
+    };
+
     /**
      * @deprecated use {@link #PostgreSQLContainer(DockerImageName)} or {@link #PostgreSQLContainer(String)} instead
      */
@@ -85,6 +101,53 @@ public class PostgreSQLContainer<SELF extends PostgreSQLContainer<SELF>> extends
         addEnv("POSTGRES_DB", databaseName);
         addEnv("POSTGRES_USER", username);
         addEnv("POSTGRES_PASSWORD", password);
+        if (getSnapshotName() != null && !getEnvMap().containsKey("PGDATA")) {
+            // The default data directory is a volume, which would not be part of the snapshot
+            addEnv("PGDATA", SNAPSHOT_DATA_DIRECTORY);
+        }
+        if (isFastTestProfile()) {
+            applyFastTestProfile();
+        }
+    }
+
+    private void applyFastTestProfile() {
+        // tmpfs mounts are not part of snapshots
+        if (getSnapshotName() == null) {
+            addTmpFs(getDataDirectory(), "rw");
+        }
+
+        List<String> commandParts = new ArrayList<>(Arrays.asList(getCommandParts()));
+        if (commandParts.isEmpty()) {
+            // the command was unset, keep the defaults of the image
+            return;
+        }
+        for (String option : FAST_TEST_PROFILE_OPTIONS) {
+            if (!commandParts.contains(option)) {
+                commandParts.add("-c");
+                commandParts.add(option);
+            }
+        }
+        setCommand(commandParts.toArray(new String[0]));
+    }
+
+    /**
+     * @return the data directory, which differs between the versions of the image, e.g.
+     * {@code /var/lib/postgresql/18/docker} since PostgreSQL 18
+     */
+    private String getDataDirectory() {
+        String dataDirectory = getEnvMap().get("PGDATA");
+        if (dataDirectory != null) {
+            return dataDirectory;
+        }
+        ContainerConfig imageConfig = getDockerClient().inspectImageCmd(getDockerImageName()).exec().getConfig();
+        if (imageConfig != null && imageConfig.getEnv() != null) {
+            for (String variable : imageConfig.getEnv()) {
+                if (variable.startsWith("PGDATA=")) {
+                    return variable.substring("PGDATA=".length());
+                }
+            }
+        }
+        return DEFAULT_DATA_DIRECTORY;
     }
 
     @Override
@@ -94,6 +157,11 @@ public class PostgreSQLContainer<SELF extends PostgreSQLContainer<SELF>> extends
 
     @Override
     public String getJdbcUrl() {
+        return getJdbcUrlForDatabase(getDatabaseName());
+    }
+
+    @Override
+    protected String getJdbcUrlForDatabase(String databaseName) {
         String additionalUrlParams = constructUrlParameters("?", "&");
         return (
             "jdbc:postgresql://" +
@@ -108,7 +176,8 @@ public class PostgreSQLContainer<SELF extends PostgreSQLContainer<SELF>> extends
 
     @Override
     public String getDatabaseName() {
-        return databaseName;
+        ReuseLease lease = getReuseLease();
+        return lease != null ? lease.getNamespace() : databaseName;
     }
 
     @Override
@@ -126,6 +195,41 @@ public class PostgreSQLContainer<SELF extends PostgreSQLContainer<SELF>> extends
         return "SELECT 1";
     }
 
+    @Override
+    protected String[] getNativeClientCommand(String scriptPath) {
+        return new String[] {
+            "psql",
+            "-v",
+            "ON_ERROR_STOP=1",
+            "-q",
+            "-U",
+            getUsername(),
+            "-d",
+            getDatabaseName(),
+            "-f",
+            scriptPath,
+        };
+    }
+
+    @Override
+    protected long bulkLoad(String table, String containerPath, BulkLoadFormat format) throws SQLException {
+        String options;
+        switch (format) {
+            case CSV:
+                options = "FORMAT csv";
+                break;
+            case CSV_WITH_HEADER:
+                options = "FORMAT csv, HEADER true";
+                break;
+            case TSV:
+                options = "FORMAT text";
+                break;
+            default:
+                throw unsupportedBulkLoadFormat(format);
+        }
+        return executeBulkLoad("COPY " + table + " FROM '" + containerPath + "' WITH (" + options + ")");
+    }
+
     @Override
     public SELF withDatabaseName(final String databaseName) {
         this.databaseName = databaseName;
@@ -144,6 +248,29 @@ public class PostgreSQLContainer<SELF extends PostgreSQLContainer<SELF>> extends
         return self();
     }
 
+    @Override
+    protected boolean supportsDatabaseRecreation() {
+        return true;
+    }
+
+    @Override
+    protected void recreateDatabase(Statement statement, String databaseName) throws SQLException {
+        statement.execute("DROP DATABASE IF EXISTS " + databaseName);
+        statement.execute("CREATE DATABASE " + databaseName);
+    }
+
+    @Override
+    protected void cloneDatabase(Statement statement, String templateName, String databaseName)
+        throws SQLException {
+        statement.execute("DROP DATABASE IF EXISTS " + databaseName);
+        statement.execute("CREATE DATABASE " + databaseName + " TEMPLATE " + templateName);
+    }
+
+    @Override
+    protected void dropDatabase(Statement statement, String databaseName) throws SQLException {
+        statement.execute("DROP DATABASE IF EXISTS " + databaseName);
+    }
+
     @Override
     protected void waitUntilContainerStarted() {
         getWaitStrategy().waitUntilReady(this);
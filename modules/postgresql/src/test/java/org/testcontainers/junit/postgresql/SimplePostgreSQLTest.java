@@ -2,11 +2,19 @@ package org.testcontainers.junit.postgresql;
 
 import org.junit.Test;
 import org.testcontainers.PostgreSQLTestImages;
+import org.testcontainers.containers.BulkLoadFormat;
+import org.testcontainers.containers.DatabaseTemplate;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.db.AbstractContainerDatabaseTest;
+import org.testcontainers.utility.MountableFile;
 
+import java.sql.Connection;
+import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
 
@@ -60,6 +68,20 @@ public class SimplePostgreSQLTest extends AbstractContainerDatabaseTest {
         }
     }
 
+    @Test
+    public void testFastTestProfile() throws SQLException {
+        try (
+            PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(PostgreSQLTestImages.POSTGRES_TEST_IMAGE)
+                .withFastTestProfile()
+        ) {
+            postgres.start();
+
+            ResultSet resultSet = performQuery(postgres, "SELECT current_setting('synchronous_commit')");
+            assertThat(resultSet.getString(1)).as("synchronous_commit should be off").isEqualTo("off");
+            assertThat(postgres.getTmpFsMapping()).containsKey("/var/lib/postgresql/data");
+        }
+    }
+
     @Test
     public void testMissingInitScript() {
         try (
@@ -85,6 +107,41 @@ public class SimplePostgreSQLTest extends AbstractContainerDatabaseTest {
         }
     }
 
+    @Test
+    public void testNativeInitScripts() throws SQLException {
+        try (
+            PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(PostgreSQLTestImages.POSTGRES_TEST_IMAGE)
+                .withInitScripts("somepath/init_postgresql.sql", "somepath/init_postgresql_2.sql")
+                .withNativeInitScripts()
+        ) {
+            postgres.start();
+
+            ResultSet resultSet = performQuery(postgres, "SELECT foo FROM bar");
+            assertThat(resultSet.getString(1)).as("Value from init script should equal real value").isEqualTo("hello world");
+        }
+    }
+
+    @Test
+    public void testLoadTables() throws SQLException {
+        try (
+            PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(PostgreSQLTestImages.POSTGRES_TEST_IMAGE)
+                .withInitScripts("somepath/init_postgresql.sql", "somepath/init_postgresql_2.sql")
+        ) {
+            postgres.start();
+
+            Map<String, MountableFile> tables = new LinkedHashMap<>();
+            tables.put("bar", MountableFile.forClasspathResource("somepath/bar.csv"));
+            tables.put("foo", MountableFile.forClasspathResource("somepath/foo.csv"));
+
+            Map<String, Long> rows = postgres.loadTables(tables, BulkLoadFormat.CSV_WITH_HEADER);
+
+            assertThat(rows).containsEntry("bar", 3L).containsEntry("foo", 2L);
+            assertThat(performQuery(postgres, "SELECT count(*) FROM bar").getInt(1)).isEqualTo(4);
+            assertThat(performQuery(postgres, "SELECT foo FROM bar WHERE foo LIKE 'second%'").getString(1))
+                .isEqualTo("second, quoted");
+        }
+    }
+
     @Test
     public void testExplicitInitScripts() throws SQLException {
         try (
@@ -106,6 +163,68 @@ public class SimplePostgreSQLTest extends AbstractContainerDatabaseTest {
         }
     }
 
+    @Test
+    public void testRestoreSnapshot() throws SQLException {
+        try (
+            PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(PostgreSQLTestImages.POSTGRES_TEST_IMAGE)
+                .withInitScript("somepath/init_postgresql.sql")
+                .withSnapshot("seeded")
+        ) {
+            postgres.start();
+
+            performQuery(postgres, "INSERT INTO bar (foo) VALUES ('not in snapshot') RETURNING foo");
+            assertThat(performQuery(postgres, "SELECT count(*) FROM bar").getInt(1)).isEqualTo(2);
+
+            postgres.restore("seeded");
+
+            assertThat(postgres.isRestoredFromSnapshot()).as("Container is restored from the snapshot").isTrue();
+            ResultSet resultSet = performQuery(postgres, "SELECT foo FROM bar");
+            assertThat(resultSet.getString(1)).as("Value from init script is restored").isEqualTo("hello world");
+            assertThat(resultSet.next()).as("Value inserted after the snapshot is gone").isFalse();
+        }
+    }
+
+    @Test
+    public void testDatabaseTemplate() throws SQLException {
+        try (
+            PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(PostgreSQLTestImages.POSTGRES_TEST_IMAGE)
+                .withInitScript("somepath/init_postgresql.sql")
+        ) {
+            postgres.start();
+
+            try (DatabaseTemplate template = DatabaseTemplate.of(postgres, 1)) {
+                String firstJdbcUrl = template.createDatabase();
+                String secondJdbcUrl = template.createDatabase();
+                assertThat(firstJdbcUrl).isNotEqualTo(secondJdbcUrl);
+
+                try (
+                    Connection connection = DriverManager.getConnection(
+                        firstJdbcUrl,
+                        postgres.getUsername(),
+                        postgres.getPassword()
+                    );
+                    Statement statement = connection.createStatement()
+                ) {
+                    statement.execute("INSERT INTO bar (foo) VALUES ('only in the first database')");
+                }
+
+                try (
+                    Connection connection = DriverManager.getConnection(
+                        secondJdbcUrl,
+                        postgres.getUsername(),
+                        postgres.getPassword()
+                    );
+                    Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery("SELECT foo FROM bar")
+                ) {
+                    assertThat(resultSet.next()).isTrue();
+                    assertThat(resultSet.getString(1)).as("Value from init script is copied").isEqualTo("hello world");
+                    assertThat(resultSet.next()).as("Databases are isolated").isFalse();
+                }
+            }
+        }
+    }
+
     @Test
     public void testWithAdditionalUrlParamInJdbcUrl() {
         try (
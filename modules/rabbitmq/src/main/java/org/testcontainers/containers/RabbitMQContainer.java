@@ -11,6 +11,7 @@ import org.testcontainers.utility.MountableFile;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -45,6 +46,10 @@ public class RabbitMQContainer extends GenericContainer<RabbitMQContainer> {
 
     private static final int DEFAULT_HTTP_PORT = 15672;
 
+    private static final Set<String> VIRTUAL_HOST_OBJECTS = new HashSet<>(
+        Arrays.asList("queue", "exchange", "binding", "policy", "operator_policy", "parameter")
+    );
+
     private String adminPassword = "guest";
 
     private String adminUsername = "guest";
@@ -90,16 +95,82 @@ public class RabbitMQContainer extends GenericContainer<RabbitMQContainer> {
 
     @Override
     protected void containerIsStarted(InspectContainerResponse containerInfo) {
-        values.forEach(command -> {
-            try {
-                ExecResult execResult = execInContainer(command.toArray(new String[0]));
-                if (execResult.getExitCode() != 0) {
-                    logger().error("Could not execute command {}: {}", command, execResult.getStderr());
+        if (values.isEmpty()) {
+            return;
+        }
+        // a single session instead of one exec per declared object
+        try (ExecSession session = openExecSession()) {
+            values.forEach(it -> {
+                List<String> command = inVirtualHostOfLease(it);
+                try {
+                    ExecResult execResult = session.exec(command.toArray(new String[0]));
+                    if (execResult.getExitCode() != 0) {
+                        logger().error("Could not execute command {}: {}", command, execResult.getStderr());
+                    }
+                } catch (IOException | InterruptedException e) {
+                    logger().error("Could not execute command {}: {}", command, e.getMessage());
                 }
-            } catch (IOException | InterruptedException e) {
-                logger().error("Could not execute command {}: {}", command, e.getMessage());
-            }
-        });
+            });
+        }
+    }
+
+    /**
+     * Under a lease, objects of a virtual host that are declared without one go to the virtual host of the lease.
+     */
+    private List<String> inVirtualHostOfLease(List<String> command) {
+        ReuseLease lease = getReuseLease();
+        return lease != null ? inVirtualHost(command, lease.getNamespace()) : command;
+    }
+
+    static List<String> inVirtualHost(List<String> command, String vhost) {
+        boolean declaresVirtualHostObject =
+            command.size() > 2 &&
+            "rabbitmqadmin".equals(command.get(0)) &&
+            "declare".equals(command.get(1)) &&
+            VIRTUAL_HOST_OBJECTS.contains(command.get(2));
+        if (!declaresVirtualHostObject || command.stream().anyMatch(it -> it.startsWith("--vhost="))) {
+            return command;
+        }
+        List<String> result = new ArrayList<>(command);
+        result.add(1, "--vhost=" + vhost);
+        return result;
+    }
+
+    /**
+     * @return true, as each lease gets its own virtual host
+     */
+    @Override
+    protected boolean canBeLeased() {
+        return true;
+    }
+
+    /**
+     * Creates an empty virtual host for the lease, see {@link #withLeasedReuse(boolean)}.
+     */
+    @Override
+    protected void reuseLeaseAcquired(ReuseLease lease) throws Exception {
+        String vhost = lease.getNamespace();
+        execInContainer("rabbitmqctl", "delete_vhost", vhost);
+        execInContainerOrFail("rabbitmqctl", "add_vhost", vhost);
+        execInContainerOrFail("rabbitmqctl", "set_permissions", "-p", vhost, this.adminUsername, ".*", ".*", ".*");
+    }
+
+    private void execInContainerOrFail(String... command) throws IOException, InterruptedException {
+        ExecResult execResult = execInContainer(command);
+        if (execResult.getExitCode() != 0) {
+            throw new IllegalStateException(
+                "Could not execute command " + Arrays.toString(command) + ": " + execResult.getStderr()
+            );
+        }
+    }
+
+    /**
+     * @return the virtual host of the lease held by this JVM when started with {@link #withLeasedReuse(boolean)},
+     * the default virtual host otherwise
+     */
+    public String getVirtualHost() {
+        ReuseLease lease = getReuseLease();
+        return lease != null ? lease.getNamespace() : "/";
     }
 
     /**
@@ -136,14 +207,18 @@ public class RabbitMQContainer extends GenericContainer<RabbitMQContainer> {
      * @return AMQP URL for use with AMQP clients.
      */
     public String getAmqpUrl() {
-        return "amqp://" + getHost() + ":" + getAmqpPort();
+        return "amqp://" + getHost() + ":" + getAmqpPort() + getVirtualHostPath();
     }
 
     /**
      * @return AMQPS URL for use with AMQPS clients.
      */
     public String getAmqpsUrl() {
-        return "amqps://" + getHost() + ":" + getAmqpsPort();
+        return "amqps://" + getHost() + ":" + getAmqpsPort() + getVirtualHostPath();
+    }
+
+    private String getVirtualHostPath() {
+        return getReuseLease() != null ? "/" + getVirtualHost() : "";
     }
 
     /**
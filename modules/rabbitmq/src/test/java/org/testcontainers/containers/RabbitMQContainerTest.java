@@ -7,8 +7,10 @@ import com.rabbitmq.client.Connection;
 import com.rabbitmq.client.ConnectionFactory;
 import com.rabbitmq.client.DeliverCallback;
 import org.junit.Test;
+import org.testcontainers.DockerClientFactory;
 import org.testcontainers.containers.RabbitMQContainer.SslVerification;
 import org.testcontainers.utility.MountableFile;
+import org.testcontainers.utility.TestcontainersConfiguration;
 
 import java.io.File;
 import java.io.IOException;
@@ -20,6 +22,7 @@ import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.concurrent.TimeoutException;
 
@@ -29,6 +32,7 @@ import javax.net.ssl.TrustManagerFactory;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.Assume.assumeTrue;
 
 public class RabbitMQContainerTest {
 
@@ -134,6 +138,65 @@ public class RabbitMQContainerTest {
         }
     }
 
+    @Test
+    public void shouldDeclareObjectsWithoutVirtualHostInTheVirtualHostOfTheLease() {
+        assertThat(RabbitMQContainer.inVirtualHost(Arrays.asList("rabbitmqadmin", "declare", "queue", "name=q"), "v"))
+            .containsExactly("rabbitmqadmin", "--vhost=v", "declare", "queue", "name=q");
+        assertThat(
+            RabbitMQContainer.inVirtualHost(
+                Arrays.asList("rabbitmqadmin", "--vhost=other", "declare", "exchange", "name=e", "type=direct"),
+                "v"
+            )
+        )
+            .as("an explicit virtual host is kept")
+            .containsExactly("rabbitmqadmin", "--vhost=other", "declare", "exchange", "name=e", "type=direct");
+        assertThat(RabbitMQContainer.inVirtualHost(Arrays.asList("rabbitmqadmin", "declare", "user", "name=u"), "v"))
+            .as("users do not belong to a virtual host")
+            .containsExactly("rabbitmqadmin", "declare", "user", "name=u");
+    }
+
+    @Test
+    public void shouldIsolateTheLeasesOfASharedContainer() throws IOException, InterruptedException {
+        assumeTrue(
+            "requires testcontainers.reuse.enable=true",
+            TestcontainersConfiguration.getInstance().environmentSupportsReuse()
+        );
+
+        String containerId = null;
+        try (
+            RabbitMQContainer first = new RabbitMQContainer(RabbitMQTestImages.RABBITMQ_IMAGE)
+                .withLeasedReuse(true)
+                .withQueue("leased-queue");
+            RabbitMQContainer second = new RabbitMQContainer(RabbitMQTestImages.RABBITMQ_IMAGE)
+                .withLeasedReuse(true)
+                .withQueue("leased-queue")
+        ) {
+            first.start();
+            second.start();
+            containerId = first.getContainerId();
+
+            assertThat(second.getContainerId()).as("both leases share one container").isEqualTo(containerId);
+            assertThat(second.getVirtualHost()).isNotEqualTo(first.getVirtualHost());
+            for (RabbitMQContainer container : Arrays.asList(first, second)) {
+                assertThat(container.getAmqpUrl()).endsWith("/" + container.getVirtualHost());
+                assertThat(
+                    container
+                        .execInContainer("rabbitmqctl", "list_queues", "-p", container.getVirtualHost(), "name")
+                        .getStdout()
+                )
+                    .contains("leased-queue");
+            }
+            assertThat(first.execInContainer("rabbitmqctl", "list_queues", "name").getStdout())
+                .as("nothing is declared in the default virtual host")
+                .doesNotContain("leased-queue");
+        } finally {
+            // releasing the leases leaves the shared container running
+            if (containerId != null) {
+                DockerClientFactory.instance().client().removeContainerCmd(containerId).withForce(true).exec();
+            }
+        }
+    }
+
     @Test
     public void shouldMountConfigurationFile() {
         try (RabbitMQContainer container = new RabbitMQContainer(RabbitMQTestImages.RABBITMQ_IMAGE)) {